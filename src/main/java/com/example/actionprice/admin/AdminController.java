@@ -1,12 +1,22 @@
 package com.example.actionprice.admin;
 
+import com.example.actionprice.auctionData.ingest.AuctionBackfillStatusDTO;
+import com.example.actionprice.auctionData.ingest.AuctionIngestDeadLetter;
+import com.example.actionprice.auctionData.ingest.AuctionIngestResultDTO;
+import com.example.actionprice.auctionData.ingest.AuctionIngestService;
+import com.example.actionprice.auctionData.service.AuctionEntityService;
+import com.example.actionprice.auctionData.service.AuctionRollupService;
 import com.example.actionprice.security.jwt.refreshToken.RefreshTokenService;
 import com.example.actionprice.user.UserService;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import com.example.actionprice.user.dto.UserListDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,6 +31,9 @@ import org.springframework.web.bind.annotation.RestController;
  * @created 2024-11-07 오후 11:15
  * @value userService
  * @value refreshTokenService
+ * @value auctionEntityService
+ * @value auctionIngestService
+ * @value auctionRollupService
  */
 @RestController
 @RequestMapping("/api/admin")
@@ -30,6 +43,9 @@ public class AdminController {
 
   private final UserService userService;
   private final RefreshTokenService refreshTokenService;
+  private final AuctionEntityService auctionEntityService;
+  private final AuctionIngestService auctionIngestService;
+  private final AuctionRollupService auctionRollupService;
 
   /**
    * 어드민 페이지의 사용자 리스트를 반환하는 메서드
@@ -89,4 +105,148 @@ public class AdminController {
     );
   }
 
+  /**
+   * 경매 데이터 테이블의 중복 행을 정리하고 자연키 unique 인덱스를 적용하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 3:00
+   * @info 자연키가 생기기 전에 쌓인 데이터를 정리하기 위한 일회성 마이그레이션. 여러 번 호출해도 안전함
+   * @info 반환값은 대분류별로 삭제된 중복 행 수
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/natural-key")
+  public Map<String, Integer> applyAuctionNaturalKey() {
+    log.info("[class] AdminController - [method] applyAuctionNaturalKey");
+    return auctionEntityService.applyNaturalKey();
+  }
+
+  /**
+   * 경매 데이터 테이블에 조회용 복합 인덱스를 만드는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:05
+   * @info 반환값은 테이블별로 이번에 새로 만들어졌는지 여부
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/lookup-index")
+  public Map<String, Boolean> applyAuctionLookupIndex() {
+    log.info("[class] AdminController - [method] applyAuctionLookupIndex");
+    return auctionEntityService.applyLookupIndex();
+  }
+
+  /**
+   * 대분류 테이블의 경매 데이터를 통합 테이블(auction_price)로 옮기는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 7:40
+   * @info 통합 테이블 파티셔닝 후 INSERT IGNORE로 옮기기 때문에 여러 번 호출해도 안전함
+   * @info 반환값은 대분류별로 새로 옮겨진 행 수
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/unified/migrate")
+  public Map<String, Integer> migrateAuctionToUnifiedTable() {
+    log.info("[class] AdminController - [method] migrateAuctionToUnifiedTable");
+    return auctionEntityService.migrateToUnifiedTable();
+  }
+
+  /**
+   * 경매 데이터를 압축 테이블(auction_price_compact)로 옮기는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:20
+   * @info 품목/시장 사전을 채운 다음 INSERT IGNORE로 옮기기 때문에 여러 번 호출해도 안전함
+   * @info 반환값은 원본 테이블별로 새로 옮겨진 행 수
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/normalized/migrate")
+  public Map<String, Integer> migrateAuctionToNormalizedTable() {
+    log.info("[class] AdminController - [method] migrateAuctionToNormalizedTable");
+    return auctionEntityService.migrateToNormalizedTable();
+  }
+
+  /**
+   * 경매 데이터 테이블에 있는데 품목 테이블(auction_category)에 없는 품목을 채우는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 10:40
+   * @info 수집이 품목 테이블을 관리하기 전에 쌓인 데이터를 맞추는 용도. 여러 번 호출해도 안전함
+   * @info 반환값은 원본 테이블별로 새로 추가된 품목 수
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/category/sync")
+  public Map<String, Integer> syncAuctionCategoryTable() {
+    log.info("[class] AdminController - [method] syncAuctionCategoryTable");
+    return auctionEntityService.syncCategoryTable();
+  }
+
+  /**
+   * 기간 안의 그래프용 집계(auction_price_rollup)를 원본 테이블에서 다시 만드는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:40
+   * @info 집계 테이블을 켜기 전에 쌓인 데이터를 채우는 용도. 구간 단위로 지우고 다시 집계하기 때문에 여러 번 호출해도 안전함
+   * @info 반환값은 대분류별 affected rows
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/rollup/rebuild")
+  public Map<String, Integer> rebuildAuctionRollup(
+      @RequestParam("startDate") @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+      @RequestParam("endDate") @DateTimeFormat(iso = ISO.DATE) LocalDate endDate
+  ) {
+    log.info("[class] AdminController - [method] rebuildAuctionRollup - startDate : {} | endDate : {}", startDate, endDate);
+    return auctionRollupService.rebuild(startDate, endDate);
+  }
+
+  /**
+   * 재시도까지 실패해서 dead letter로 남아 있는 수집 unit 목록을 반환하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 4:55
+   */
+  @Secured("ROLE_ADMIN")
+  @GetMapping("/auction/dead-letters")
+  public List<AuctionIngestDeadLetter> getAuctionDeadLetters() {
+    log.info("[class] AdminController - [method] getAuctionDeadLetters");
+    return auctionIngestService.getDeadLetters();
+  }
+
+  /**
+   * dead letter로 남아 있는 수집 unit을 다시 수집하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 4:55
+   * @info 성공한 unit은 dead letter에서 삭제됨
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/dead-letters/replay")
+  public List<AuctionIngestResultDTO> replayAuctionDeadLetters() {
+    log.info("[class] AdminController - [method] replayAuctionDeadLetters");
+    return auctionIngestService.replayDeadLetters();
+  }
+
+  /**
+   * 기간 내의 경매 데이터를 백그라운드에서 백필하는 메서드
+   * @param startDate 시작일(yyyy-MM-dd, 포함)
+   * @param endDate 종료일(yyyy-MM-dd, 포함)
+   * @author 연상훈
+   * @created 2026-10-18 오후 5:30
+   * @info 바로 반환하고, 진행 상황은 GET /auction/backfill로 확인
+   * @info 중간에 멈췄으면 같은 기간으로 다시 호출하면 이어서 진행함
+   */
+  @Secured("ROLE_ADMIN")
+  @PostMapping("/auction/backfill")
+  public AuctionBackfillStatusDTO startAuctionBackfill(
+      @RequestParam(name = "startDate") @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+      @RequestParam(name = "endDate") @DateTimeFormat(iso = ISO.DATE) LocalDate endDate
+  ) {
+    log.info("[class] AdminController - [method] startAuctionBackfill - {} ~ {}", startDate, endDate);
+    return auctionIngestService.startBackfill(startDate, endDate);
+  }
+
+  /**
+   * 백필 진행 상황을 반환하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 5:30
+   */
+  @Secured("ROLE_ADMIN")
+  @GetMapping("/auction/backfill")
+  public AuctionBackfillStatusDTO getAuctionBackfillStatus(
+      @RequestParam(name = "startDate") @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+      @RequestParam(name = "endDate") @DateTimeFormat(iso = ISO.DATE) LocalDate endDate
+  ) {
+    return auctionIngestService.getBackfillStatus(startDate, endDate);
+  }
+
 }
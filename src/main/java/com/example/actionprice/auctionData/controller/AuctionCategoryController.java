@@ -2,20 +2,27 @@ package com.example.actionprice.auctionData.controller;
 
 import com.example.actionprice.auctionData.dto.CategoryResultDTO;
 import com.example.actionprice.auctionData.dto.CategoryDTO;
+import com.example.actionprice.auctionData.dto.AuctionDateWindow;
 import com.example.actionprice.auctionData.dto.ChartDataDTO;
-import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
 import com.example.actionprice.auctionData.service.AuctionCategoryService;
+import com.example.actionprice.auctionData.service.AuctionDateWindowResolver;
 import com.example.actionprice.auctionData.service.AuctionEntityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @RestController
@@ -25,28 +32,31 @@ public class AuctionCategoryController {
 
     private final AuctionCategoryService auctionCategoryService;
     private final AuctionEntityService auctionEntityService;
+    private final AuctionDateWindowResolver auctionDateWindowResolver;
 
     @GetMapping("/{large}")
-    public CategoryDTO getCategoriesByLarge(@PathVariable String large) {
+    public ResponseEntity<CategoryDTO> getCategoriesByLarge(@PathVariable String large, WebRequest webRequest) {
         log.info("[class] AuctionCategoryController - [method] getCategoriesByLarge - large : {}", large);
-        return auctionCategoryService.getMiddleCategory(large);
+        return respondWithETag(webRequest, () -> auctionCategoryService.getMiddleCategory(large));
     }
 
     @GetMapping("/{large}/{middle}")
-    public CategoryDTO getCategoriesByLargeAndMiddle(
+    public ResponseEntity<CategoryDTO> getCategoriesByLargeAndMiddle(
             @PathVariable String large,
-            @PathVariable String middle) {
+            @PathVariable String middle,
+            WebRequest webRequest) {
         log.info("[class] AuctionCategoryController - [method] getCategoriesByLargeAndMiddle - large : {} | middle : {}", large, middle);
-        return auctionCategoryService.getSmallCategory(large, middle);
+        return respondWithETag(webRequest, () -> auctionCategoryService.getSmallCategory(large, middle));
     }
 
     @GetMapping("/{large}/{middle}/{small}")
-    public CategoryDTO getCategoriesMyLargeMiddleSmall(
+    public ResponseEntity<CategoryDTO> getCategoriesMyLargeMiddleSmall(
             @PathVariable String large,
             @PathVariable String middle,
-            @PathVariable String small) {
+            @PathVariable String small,
+            WebRequest webRequest) {
         log.info("[class] AuctionCategoryController - [method] getCategoriesMyLargeMiddleSmall - large : {} | middle : {} | small : {}", large, middle, small);
-        return auctionCategoryService.getProductRankCategory(large, middle, small);
+        return respondWithETag(webRequest, () -> auctionCategoryService.getProductRankCategory(large, middle, small));
     }
 
     @GetMapping("/{large}/{middle}/{small}/{rank}")
@@ -60,28 +70,52 @@ public class AuctionCategoryController {
             @RequestParam(name = "pageNum", defaultValue = "0", required = false) Integer pageNum
     ) {
 
-        LocalDate today = LocalDate.now();
-        LocalDate oneYearAgo = today.minusYears(1);
-        // 날짜 유효성 검사
-        if (endDate == null || endDate.isBefore(oneYearAgo)) {
-            endDate = today; // 기본값으로 오늘 날짜로 설정
-        }
-        if (startDate == null  || startDate.isBefore(oneYearAgo) || startDate.isAfter(endDate)) {
-            // 기본값으로 오늘 날짜로 설정
-            startDate = today;
-        }
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolve(startDate, endDate);
 
         return auctionEntityService.getCategoryAndPage(
             large,
             middle,
             small,
             rank,
-            startDate,
-            endDate,
+            window.getStartDate(),
+            window.getEndDate(),
             pageNum
         );
     }
 
+    /**
+     * 거래내역을 커서 방식으로 조회
+     * @author 연상훈
+     * @created 2026-10-18 오후 9:15
+     * @info cursor 파라미터가 있는 요청만 이쪽으로 옴. 첫 페이지는 cursor를 빈 값으로 보내고, 그 다음부터는 응답의 nextCursor를 그대로 보내면 됨
+     * @info cursor 파라미터가 없으면 기존처럼 pageNum 방식으로 조회함
+     */
+    @GetMapping(value = "/{large}/{middle}/{small}/{rank}", params = "cursor")
+    public CategoryResultDTO getPriceBySlice(
+            @PathVariable String large,
+            @PathVariable String middle,
+            @PathVariable String small,
+            @PathVariable String rank,
+            @RequestParam(value = "startDate",required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate",required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(name = "cursor") String cursor
+    ) {
+
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolve(startDate, endDate);
+
+        return auctionEntityService.getCategoryAndSlice(
+            large,
+            middle,
+            small,
+            rank,
+            window.getStartDate(),
+            window.getEndDate(),
+            cursor
+        );
+    }
+
     @GetMapping("/{large}/{middle}/{small}/{rank}/gragh")
     public ChartDataDTO getPriceDataWithGragh(
         @PathVariable String large,
@@ -92,16 +126,8 @@ public class AuctionCategoryController {
         @RequestParam(value = "endDate",required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
     ) {
         log.info("그래프 출력 시작");
-        LocalDate today = LocalDate.now();
-        LocalDate oneYearAgo = today.minusYears(1);
-        // 날짜 유효성 검사
-        if (endDate == null || endDate.isBefore(oneYearAgo)) {
-            endDate = today; // 기본값으로 오늘 날짜로 설정
-        }
-        if (startDate == null  || startDate.isBefore(oneYearAgo) || startDate.isAfter(endDate)) {
-            // 기본값으로 오늘 날짜로 설정
-            startDate = today;
-        }
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolveForChart(startDate, endDate);
 
         log.info("그래프 출력 완료");
         return auctionEntityService.getChartData(
@@ -109,13 +135,19 @@ public class AuctionCategoryController {
             middle,
             small,
             rank,
-            startDate,
-            endDate
+            window.getStartDate(),
+            window.getEndDate()
         );
     }
 
+    /**
+     * 거래내역 엑셀 다운로드
+     * @updated 2026-10-19 오전 2:00 : 엑셀 파일을 byte[]로 다 만든 다음 보내지 않고, 응답 스트림에 바로 씀
+     * @updated 2026-10-19 오전 2:20 : 거래내역을 리스트로 다 가져오지 않고 DB에서 한 행씩 읽어서 씀
+     * @updated 2026-10-19 오전 7:20 : 파일을 쓰다가 실패하면 로그를 남기고 연결을 끊음(abortOnError)
+     */
     @GetMapping("/{large}/{middle}/{small}/{rank}/excel")
-    public ResponseEntity<byte[]> downloadExcel(
+    public ResponseEntity<StreamingResponseBody> downloadExcel(
             @PathVariable String large,
             @PathVariable String middle,
             @PathVariable String small,
@@ -123,29 +155,19 @@ public class AuctionCategoryController {
             @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
 
-        LocalDate today = LocalDate.now();
-        LocalDate oneYearAgo = today.minusYears(1);
-        // 날짜 유효성 검사
-        if (endDate == null || endDate.isBefore(oneYearAgo)) {
-            endDate = today; // 기본값으로 오늘 날짜로 설정
-        }
-        if (startDate == null  || startDate.isBefore(oneYearAgo) || startDate.isAfter(endDate)) {
-            // 기본값으로 오늘 날짜로 설정
-            startDate = today;
-        }
-        // 페이지 없이 데이터를 가져오는 서비스 메서드 호출
-        List<AuctionBaseEntity> transactionHistoryList =
-            auctionEntityService.fetchTransactionHistoryList(
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolve(startDate, endDate);
+        // 엑셀 파일 생성. DB에서 한 행씩 읽으면서 응답 스트림에 바로 씀
+        StreamingResponseBody excelFile = abortOnError("downloadExcel", outputStream ->
+            auctionEntityService.exportExcelFile(
                 large,
                 middle,
                 small,
                 rank,
-                startDate,
-                endDate
-            );
-
-        // 엑셀 파일 생성
-        byte[] excelFile = auctionEntityService.createExcelFile(transactionHistoryList);
+                window.getStartDate(),
+                window.getEndDate(),
+                outputStream
+            ));
 
         // Content-Disposition 헤더 설정
         HttpHeaders headers = new HttpHeaders();
@@ -159,4 +181,135 @@ public class AuctionCategoryController {
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(excelFile);
     }
+
+    /**
+     * 거래내역 CSV 다운로드
+     * @author 연상훈
+     * @created 2026-10-19 오전 2:55
+     * @info 엑셀과 같은 조건, 같은 컬럼. 긴 기간을 받아가는 분석용
+     * @info gzip=true면 transaction_history.csv.gz로 압축해서 보냄
+     */
+    @GetMapping("/{large}/{middle}/{small}/{rank}/csv")
+    public ResponseEntity<StreamingResponseBody> downloadCsv(
+            @PathVariable String large,
+            @PathVariable String middle,
+            @PathVariable String small,
+            @PathVariable String rank,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolve(startDate, endDate);
+        StreamingResponseBody csvFile = abortOnError("downloadCsv", outputStream ->
+            auctionEntityService.exportCsvFile(
+                large,
+                middle,
+                small,
+                rank,
+                window.getStartDate(),
+                window.getEndDate(),
+                gzip,
+                outputStream
+            ));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(
+            "Content-Disposition",
+            gzip ? "attachment; filename=transaction_history.csv.gz" : "attachment; filename=transaction_history.csv"
+        );
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(csvFile);
+    }
+
+    /**
+     * 거래내역 열 단위 바이너리 다운로드
+     * @author 연상훈
+     * @created 2026-10-19 오전 2:55
+     * @info 형식은 AuctionColumnarWriter 참고. 같은 데이터의 CSV보다 훨씬 작음
+     */
+    @GetMapping("/{large}/{middle}/{small}/{rank}/binary")
+    public ResponseEntity<StreamingResponseBody> downloadColumnar(
+            @PathVariable String large,
+            @PathVariable String middle,
+            @PathVariable String small,
+            @PathVariable String rank,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+
+        // 날짜 유효성 검사 및 정규화
+        AuctionDateWindow window = auctionDateWindowResolver.resolve(startDate, endDate);
+        StreamingResponseBody columnarFile = abortOnError("downloadColumnar", outputStream ->
+            auctionEntityService.exportColumnarFile(
+                large,
+                middle,
+                small,
+                rank,
+                window.getStartDate(),
+                window.getEndDate(),
+                outputStream
+            ));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(
+            "Content-Disposition",
+            "attachment; filename=transaction_history.apcb"
+        );
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(columnarFile);
+    }
+
+    /**
+     * 파일 다운로드 중에 난 에러를 로그로 남기고 다시 던지는 메서드
+     * @author 연상훈
+     * @created 2026-10-19 오전 7:20
+     * @info StreamingResponseBody는 200과 헤더가 정해진 다음에 실행되고, 이미 일부를 보냈을 수도 있어서 에러 응답으로 바꿀 수 없음
+     * @info 그래서 잡아서 삼키지 않고 다시 던짐. 응답이 이미 나가기 시작했으면 서버(tomcat)가 마지막 chunk 없이 연결을 끊어서, 받는 쪽은 완성된 파일로 착각하지 않고 다운로드 실패로 봄
+     */
+    private StreamingResponseBody abortOnError(String method, StreamingResponseBody body) {
+        return outputStream -> {
+            try {
+                body.writeTo(outputStream);
+            } catch (IOException | RuntimeException e) {
+                log.error("[class] AuctionCategoryController - [method] {} - aborted : {}", method, e.toString());
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 품목 목록 응답에 ETag를 붙이는 메서드
+     * @author 연상훈
+     * @created 2026-10-18 오후 10:08
+     * @info 브라우저가 보낸 If-None-Match가 현재 품목 목록의 버전과 같으면 본문 없이 304로 응답함
+     * @info no-cache라서 브라우저는 매번 서버에 확인하지만, 품목이 바뀌지 않았으면 본문을 다시 받지 않음
+     */
+    private ResponseEntity<CategoryDTO> respondWithETag(WebRequest webRequest, Supplier<CategoryDTO> categorySupplier) {
+        String eTag = auctionCategoryService.getCategoryVersion();
+
+        // 트리 대신 DB에서 읽은 응답은 버전이 없어서 ETag를 붙이지 않음
+        if (eTag == null) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(categorySupplier.get());
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(categorySupplier.get());
+    }
 }
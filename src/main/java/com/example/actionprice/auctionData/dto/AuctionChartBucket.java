@@ -0,0 +1,34 @@
+package com.example.actionprice.auctionData.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 그래프의 점 하나(구간 x 시장)의 가격 합계와 개수
+ * @author 연상훈
+ * @created 2026-10-18 오후 11:00
+ * @value bucketDate : 구간의 첫 날(AuctionChartInterval.bucketStart)
+ * @info 평균이 아니라 합계와 개수를 들고 있어서, 여러 구간 조각을 합쳐도 평균이 틀어지지 않음
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuctionChartBucket {
+
+  private LocalDate bucketDate;
+  private String marketName;
+  private long priceSum;
+  private long priceCount;
+
+  public void merge(AuctionChartBucket other) {
+    this.priceSum += other.priceSum;
+    this.priceCount += other.priceCount;
+  }
+
+  // 기존 그래프와 같이 소수점 이하는 버림
+  public int getAveragePrice() {
+    return (int) (priceSum / priceCount);
+  }
+}
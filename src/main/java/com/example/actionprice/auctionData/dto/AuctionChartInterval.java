@@ -0,0 +1,71 @@
+package com.example.actionprice.auctionData.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import lombok.Getter;
+
+/**
+ * 그래프의 날짜 간격(일간, 주간, 월간)
+ * @author 연상훈
+ * @created 2026-10-18 오후 11:00
+ * @value label : 그래프 응답(ChartDataDTO.timeIntervals)에 들어가는 이름
+ * @info 주간은 월요일, 월간은 1일이 그 구간(bucket)의 날짜가 됨. 기존 그래프가 날짜를 바꾸던 기준과 같음
+ * @info 기간이 93일 이상이면 월간, 21일 이상이면 주간, 그 외에는 일간
+ */
+@Getter
+public enum AuctionChartInterval {
+
+  DAILY("일간"),
+  WEEKLY("주간"),
+  MONTHLY("월간");
+
+  private final String label;
+
+  AuctionChartInterval(String label) {
+    this.label = label;
+  }
+
+  public static AuctionChartInterval of(int daysBetween) {
+    if (daysBetween >= 93) {
+      return MONTHLY;
+    }
+    if (daysBetween >= 21) {
+      return WEEKLY;
+    }
+    return DAILY;
+  }
+
+  // date가 속한 구간의 첫 날
+  public LocalDate bucketStart(LocalDate date) {
+    return switch (this) {
+      case DAILY -> date;
+      case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTHLY -> date.withDayOfMonth(1);
+    };
+  }
+
+  // bucketStart와 같은 결과를 내는 mysql 식
+  public String toSqlBucketExpression(String dateColumn) {
+    return switch (this) {
+      case DAILY -> dateColumn;
+      case WEEKLY -> String.format("DATE_SUB(%1$s, INTERVAL WEEKDAY(%1$s) DAY)", dateColumn);
+      case MONTHLY -> String.format("DATE_SUB(%1$s, INTERVAL DAYOFMONTH(%1$s) - 1 DAY)", dateColumn);
+    };
+  }
+
+  // date가 속한 구간의 마지막 날
+  public LocalDate bucketEnd(LocalDate date) {
+    return nextBucketStart(date).minusDays(1);
+  }
+
+  // date가 속한 구간의 다음 구간의 첫 날
+  public LocalDate nextBucketStart(LocalDate date) {
+    LocalDate bucketStart = bucketStart(date);
+    return switch (this) {
+      case DAILY -> bucketStart.plusDays(1);
+      case WEEKLY -> bucketStart.plusWeeks(1);
+      case MONTHLY -> bucketStart.plusMonths(1);
+    };
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.actionprice.auctionData.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 거래내역, 그래프, 엑셀 조회에 실제로 쓰이는 기간
+ * @author 연상훈
+ * @created 2026-10-19 오전 1:30
+ * @info AuctionDateWindowResolver가 요청의 시작일, 종료일을 정규화해서 만듦
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuctionDateWindow {
+
+  private LocalDate startDate;
+  private LocalDate endDate;
+}
@@ -0,0 +1,63 @@
+package com.example.actionprice.auctionData.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 거래내역 커서 페이지의 위치를 나타내는 객체
+ * @author 연상훈
+ * @created 2026-10-18 오후 9:10
+ * @info 마지막으로 보여준 행의 (delDate, delId). 다음 페이지는 이것보다 "뒤"(날짜 역순, 같은 날짜면 id 역순)에 있는 행부터 조회함
+ * @info 클라이언트에는 "날짜|id"를 base64url로 감싼 문자열로만 내보내서, 구조에 의존하지 않고 그대로 돌려보내게 함
+ * @info 잘못된 커서는 IllegalArgumentException을 던지고, CustomRestAdvice에서 400으로 처리됨
+ */
+@Getter
+public class AuctionPageCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final LocalDate delDate;
+  private final long delId;
+
+  public AuctionPageCursor(LocalDate delDate, long delId) {
+    this.delDate = delDate;
+    this.delId = delId;
+  }
+
+  /**
+   * 첫 페이지용 커서
+   * @info 조회 기간의 마지막 날 다음 날을 기준으로 하면 기간 안의 모든 행이 조건을 만족함
+   */
+  public static AuctionPageCursor first(LocalDate endDate) {
+    return new AuctionPageCursor(endDate.plusDays(1), Long.MAX_VALUE);
+  }
+
+  /**
+   * 문자열 커서를 해석하는 메서드
+   * @param cursor 비어 있으면 첫 페이지
+   */
+  public static AuctionPageCursor decode(String cursor, LocalDate endDate) {
+    if (cursor == null || cursor.isBlank()) {
+      return first(endDate);
+    }
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+      return new AuctionPageCursor(
+          LocalDate.parse(decoded.substring(0, separatorIndex)),
+          Long.parseLong(decoded.substring(separatorIndex + 1))
+      );
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid cursor : " + cursor);
+    }
+  }
+
+  public String encode() {
+    String raw = delDate + SEPARATOR + delId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
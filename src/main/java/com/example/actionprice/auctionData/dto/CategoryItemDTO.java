@@ -1,8 +1,12 @@
 package com.example.actionprice.auctionData.dto;
 
+import java.util.Objects;
 import lombok.Getter;
 import lombok.ToString;
 
+/**
+ * @updated 2026-10-18 오후 10:20 : equals가 id(이름의 hashCode)만 비교해서 hashCode가 같은 다른 이름이 중복으로 제거되던 문제 수정
+ */
 @Getter
 @ToString
 public class CategoryItemDTO {
@@ -17,7 +21,13 @@ public class CategoryItemDTO {
 
     @Override
     public boolean equals(Object obj) {
-        return this.id == ((CategoryItemDTO) obj).id;
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CategoryItemDTO other)) {
+            return false;
+        }
+        return Objects.equals(this.name, other.name);
     }
 
     @Override
@@ -18,4 +18,5 @@ public class CategoryResultDTO {
     private long listSize; // 총 데이터 갯수
     private int totalPageNum; // 총 데이터 페이지
     private boolean hasNext;  // 다음 페이지가 있는지(= 현재가 마지막 페이지가 아닌지)
+    private String nextCursor; // 커서 방식으로 조회했을 때 다음 페이지를 요청할 커서. 다음 페이지가 없으면 null
 }
@@ -5,18 +5,19 @@ import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 
 /**
  * 각 DB에 들어갈 엔티티의 베이스 엔티티
  * @author 연상훈
  * @created 2024-11-08 오후 2:46
- * @updated 2024-11-10 오후 9:45 : delDate의 set 메서드 추가
+ * @updated 2026-10-18 오후 2:10 : 자연키(날짜, 시장, 대분류, 중분류, 상품명, 등급)의 unique 인덱스를 위해 문자열 컬럼 길이 지정
  * @info MappedSuperclass와 SuperBuilder로 엔티티 변환이 자유롭도록 함
- * @info 그래프 객체 때문에 날짜에 대한 delDate의 set 메서드가 반드시 필요
+ * @updated 2026-10-19 오전 3:30 : 등급(productRank)을 NOT NULL DEFAULT ''로 변경. mysql의 unique 인덱스는 NULL끼리 충돌하지 않아서, 등급이 없는 행은 자연키로 중복이 걸러지지 않았음
+ * @info 문자열 컬럼이 기본값(255)이면 utf8mb4 기준으로 unique 인덱스 최대 길이(3072 byte)를 넘어서 길이를 지정함
  */
 @MappedSuperclass
 @SuperBuilder
@@ -34,25 +35,25 @@ public class AuctionBaseEntity{
     @Column(name="del_date")
     private LocalDate delDate; //거래일자
 
+    @Column(length = 20)
     private String large; //대분류
 
+    @Column(length = 50)
     private String middle; //중분류
 
-    @Column(name = "product_name")
+    @Column(name = "product_name", length = 100)
     private String productName; // 상품명
 
-    @Column(name = "product_rank", nullable = true)
-    private String productRank; // 등급(상품, 중품)
+    @Column(name = "product_rank", nullable = false, length = 20)
+    @ColumnDefault("''")
+    private String productRank; // 등급(상품, 중품). 등급이 없으면 빈 문자열
 
     @Positive
     private int price; // 가격
 
+    @Column(length = 20)
     private String market_name; //거래장 이름
 
-    @Column(nullable = true)
+    @Column(nullable = true, length = 20)
     private String del_unit; // 단위(중량 : kg 등)
-
-    public void setDelDate(LocalDate delDate) {
-        this.delDate = delDate;
-    }
 }
@@ -4,10 +4,28 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
+/**
+ * 품목(대분류, 중분류, 상품명, 등급) 목록
+ * @author 연상훈
+ * @updated 2026-10-18 오후 8:30 : 압축 테이블(auction_price_compact)이 품목을 id로 참조하기 때문에 품목마다 한 행만 있도록 unique 인덱스 추가
+ * @updated 2026-10-18 오후 8:30 : 압축 테이블에는 단위가 없으므로 품목의 단위(delUnit)를 여기에 저장함
+ * @updated 2026-10-18 오후 10:20 : 드롭다운의 DISTINCT 조회를 위한 (large, middle, product_name) 인덱스 추가
+ * @updated 2026-10-19 오전 6:00 : 조회용 인덱스 삭제. unique 인덱스와 앞부분이 같고 등급 조회는 커버하지 못했음
+ * @updated 2026-10-19 오전 6:30 : 등급을 NOT NULL DEFAULT ''로 변경. NULL끼리는 unique 인덱스에서 충돌하지 않음
+ * @info 드롭다운 조회는 전부 unique 인덱스(large, middle, product_name, product_rank)만 읽고 끝남. 기존 DB에는 applyItemKey로 만듬
+ * @info 컬럼 이름은 기존 naming strategy로 만들어지던 이름과 같음. 압축 테이블 관련 SQL에서 직접 쓰기 때문에 명시함
+ */
 @Entity
 @Getter
-@Table(name="auction_category")
+@Table(
+    name="auction_category",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_category_item",
+        columnNames = {"large", "middle", "product_name", "product_rank"}
+    )
+)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuctionCategoryEntity {
@@ -17,8 +35,19 @@ public class AuctionCategoryEntity {
     @Column(name="del_id")
     private Long delId;
 
+    @Column(length = 20)
     private String large;
+
+    @Column(length = 50)
     private String middle;
+
+    @Column(name = "product_name", length = 100)
     private String productName;
-    private String productRank;
+
+    @Column(name = "product_rank", nullable = false, length = 20)
+    @ColumnDefault("''")
+    private String productRank; // 등급이 없으면 빈 문자열
+
+    @Column(name = "del_unit", length = 20)
+    private String delUnit;
 }
@@ -1,12 +1,24 @@
 package com.example.actionprice.auctionData.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.experimental.SuperBuilder;
 
 @SuperBuilder
 @Entity
-@Table(name = "auctionData_fruit")
+@Table(
+    name = "auctionData_fruit",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_fruit_natural_key",
+        columnNames = {"del_date", "market_name", "large", "middle", "product_name", "product_rank"}
+    ),
+    indexes = @Index(
+        name = "idx_auction_fruit_lookup",
+        columnList = "middle, product_name, product_rank, del_date, market_name, price"
+    )
+)
 public class AuctionEntity_fruit extends AuctionBaseEntity{
     public AuctionEntity_fruit() {}
 }
@@ -0,0 +1,39 @@
+package com.example.actionprice.auctionData.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시장 목록
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:35
+ * @value marketId : 압축 테이블(auction_price_compact)이 참조하는 id. 시장은 24개뿐이라 smallint
+ * @value marketName : 시장 이름(AllSortingComponent.market_code_map의 값)
+ * @info 수집 중에 처음 보는 시장이 나오면 AuctionDictionaryRepository가 알아서 추가함
+ */
+@Entity
+@Getter
+@Table(
+    name = "auction_market",
+    uniqueConstraints = @UniqueConstraint(name = "uk_auction_market_name", columnNames = "market_name")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionMarketEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "market_id")
+    private Short marketId;
+
+    @Column(name = "market_name", nullable = false, length = 20)
+    private String marketName;
+}
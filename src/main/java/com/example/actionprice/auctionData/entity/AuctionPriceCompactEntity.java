@@ -0,0 +1,59 @@
+package com.example.actionprice.auctionData.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문자열 컬럼을 id로 바꿔서 저장하는 압축 테이블
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:40
+ * @value itemId : auction_category.del_id (대분류, 중분류, 상품명, 등급, 단위)
+ * @value marketId : auction_market.market_id
+ * @info auctionData.storage.mode=NORMALIZED일 때만 사용됨
+ * @info 대분류, 중분류, 상품명, 등급, 시장, 단위를 전부 문자열로 저장하던 행이 날짜 + id 2개 + 가격만 남아서 행 크기가 몇 분의 일로 줄어듦
+ * @info 그래서 같은 버퍼 풀에 훨씬 많은 기간이 올라가고, 기간 조회도 읽는 페이지 수가 줄어듦
+ * @info 직접 조회하지 않고, 문자열로 다시 풀어주는 AuctionPriceView로 조회함. 저장은 AuctionCompactJdbcRepository가 함
+ * @info 단위는 행에 저장하지 않고 품목의 단위를 씀. 행마다 다른 단위는 보존되지 않음(AuctionPriceView 참고)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    name = "auction_price_compact",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_price_compact_natural_key",
+        columnNames = {"del_date", "market_id", "item_id"}
+    ),
+    indexes = @Index(
+        name = "idx_auction_price_compact_lookup",
+        columnList = "item_id, del_date, market_id, price"
+    )
+)
+public class AuctionPriceCompactEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "del_id")
+    private Long delId;
+
+    @Column(name = "del_date", nullable = false)
+    private LocalDate delDate;
+
+    @Column(name = "item_id", nullable = false)
+    private Integer itemId;
+
+    @Column(name = "market_id", nullable = false)
+    private Short marketId;
+
+    @Column(nullable = false)
+    private int price;
+}
@@ -0,0 +1,34 @@
+package com.example.actionprice.auctionData.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 6개 대분류의 경매 데이터를 한 테이블에 모은 통합 엔티티
+ * @author 연상훈
+ * @created 2026-10-18 오후 7:05
+ * @info auctionData.storage.mode=UNIFIED일 때만 읽기/쓰기에 사용됨
+ * @info 테이블은 large 컬럼 기준으로 LIST COLUMNS 파티셔닝됨(AuctionEntityJdbcRepository.applyUnifiedPartitioning)
+ * @info 그래서 large 조건이 있는 조회는 해당 대분류의 파티션만 읽고, large 조건이 없는 조회는 대분류를 가리지 않고 한 번에 읽음
+ * @updated 2026-10-19 오전 7:00 : 조회용 인덱스 맨 앞에 large 추가. 대분류 테이블과 달리 large 조건을 빼지 못해서, 인덱스에 없으면 그래프 집계가 행마다 테이블을 다시 읽었음
+ */
+@SuperBuilder
+@Entity
+@Table(
+    name = "auction_price",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_price_natural_key",
+        columnNames = {"del_date", "market_name", "large", "middle", "product_name", "product_rank"}
+    ),
+    indexes = @Index(
+        name = "idx_auction_price_lookup",
+        columnList = "large, middle, product_name, product_rank, del_date, market_name, price"
+    )
+)
+public class AuctionPriceEntity extends AuctionBaseEntity {
+    public AuctionPriceEntity() {}
+
+}
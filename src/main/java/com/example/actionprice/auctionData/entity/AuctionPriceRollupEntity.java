@@ -0,0 +1,78 @@
+package com.example.actionprice.auctionData.entity;
+
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그래프용으로 미리 집계해둔 가격 테이블
+ * @author 연상훈
+ * @created 2026-10-18 오후 11:05
+ * @value granularity : 일간/주간/월간
+ * @value bucketDate : 구간의 첫 날
+ * @value priceSum, priceCount, priceMin, priceMax : 구간 안의 원본 행들의 가격 집계
+ * @info auctionData.rollup.enabled=true일 때만 채워지고 사용됨. 저장과 조회는 AuctionRollupJdbcRepository가 함
+ * @info unique 인덱스가 그래프 조회 조건(품목 + 간격이 같고 날짜가 범위) 순서라서 조회용 인덱스를 겸함
+ * @info 등급이 없는 품목은 unique 인덱스가 NULL을 중복으로 보지 않기 때문에 빈 문자열로 저장함
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    name = "auction_price_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_price_rollup_bucket",
+        columnNames = {"large", "middle", "product_name", "product_rank", "granularity", "bucket_date", "market_name"}
+    )
+)
+public class AuctionPriceRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AuctionChartInterval granularity;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false, length = 20)
+    private String large;
+
+    @Column(nullable = false, length = 50)
+    private String middle;
+
+    @Column(name = "product_name", nullable = false, length = 100)
+    private String productName;
+
+    @Column(name = "product_rank", nullable = false, length = 20)
+    private String productRank;
+
+    @Column(name = "market_name", nullable = false, length = 20)
+    private String marketName;
+
+    @Column(name = "price_sum", nullable = false)
+    private long priceSum;
+
+    @Column(name = "price_count", nullable = false)
+    private int priceCount;
+
+    @Column(name = "price_min", nullable = false)
+    private int priceMin;
+
+    @Column(name = "price_max", nullable = false)
+    private int priceMax;
+}
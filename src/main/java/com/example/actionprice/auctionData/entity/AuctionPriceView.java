@@ -0,0 +1,32 @@
+package com.example.actionprice.auctionData.entity;
+
+import jakarta.persistence.Entity;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * 압축 테이블(auction_price_compact)을 기존 컬럼 형태로 풀어서 보여주는 읽기 전용 엔티티
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:45
+ * @info AuctionBaseEntity를 상속해서 컬럼 이름이 같기 때문에, AuctionBaseRepository의 조회 메서드와 서비스 코드를 그대로 쓸 수 있음
+ * @info hibernate가 조건을 이 서브쿼리 바깥에 붙이지만, mysql이 derived table을 join으로 합쳐서 auction_category의 unique 인덱스 > 압축 테이블의 lookup 인덱스 순서로 읽음
+ * @info 테이블이 아니라서 ddl-auto가 만들지 않음
+ * @info 단위(del_unit)는 행마다가 아니라 품목(auction_category)마다 하나임. 압축 테이블에는 단위가 없어서, 같은 품목이 날짜나 시장마다 다른 단위로 들어와도 품목에 처음 기록된 단위로 보임
+ * @info 이관할 때는 품목별로 MAX(del_unit) 하나만 남음. 행마다 단위가 필요하면 SPLIT이나 UNIFIED를 써야 함
+ */
+@SuperBuilder
+@Entity
+@Immutable
+@Subselect(
+    "SELECT p.del_id, p.del_date, c.large, c.middle, c.product_name, c.product_rank, p.price, m.market_name, c.del_unit"
+        + " FROM auction_price_compact p"
+        + " JOIN auction_category c ON c.del_id = p.item_id"
+        + " JOIN auction_market m ON m.market_id = p.market_id"
+)
+@Synchronize({"auction_price_compact", "auction_category", "auction_market"})
+public class AuctionPriceView extends AuctionBaseEntity {
+    public AuctionPriceView() {}
+
+}
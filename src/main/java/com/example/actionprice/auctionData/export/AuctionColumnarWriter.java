@@ -0,0 +1,149 @@
+package com.example.actionprice.auctionData.export;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 거래내역을 열 단위로 압축한 바이너리로 쓰는 객체
+ * @author 연상훈
+ * @created 2026-10-19 오전 2:45
+ * @info 한 번에 내보내는 거래내역은 대분류, 중분류, 상품명, 등급이 모두 같아서 헤더에 한 번만 씀
+ * @info 나머지(날짜, 시장, 단위, 가격)는 ROW_GROUP_SIZE개씩 모아서 열마다 따로 씀. parquet의 row group과 같은 방식
+ * @info 시장과 단위는 문자열 사전의 번호로, 날짜는 앞 행과의 차이로, 숫자는 모두 varint(7비트씩, 상위 비트가 1이면 다음 바이트가 이어짐)로 써서 행 하나가 보통 4 ~ 5바이트임
+ * @info 형식(숫자는 big endian, 문자열은 DataOutputStream.writeUTF)
+ * <pre>
+ * 헤더      : "APCB" | 버전(byte, 1) | 대분류(UTF) | 중분류(UTF) | 상품명(UTF) | 등급(UTF)
+ * row group : 행 수(int, 0이면 파일의 끝)
+ *             | 새 사전 항목 수(varint) | 새 사전 항목(UTF) ... (사전 번호는 파일 전체에서 0부터 이어짐)
+ *             | 첫 날짜(int, epoch day) | 날짜 차이(varint) x (행 수 - 1)
+ *             | 시장 사전 번호(varint) x 행 수
+ *             | 단위 사전 번호(varint, 단위가 없으면 0, 있으면 번호 + 1) x 행 수
+ *             | 가격(varint) x 행 수
+ * </pre>
+ * @info 날짜 차이가 음수가 되지 않도록 날짜 순서로 정렬된 행을 받아야 함
+ * @updated 2026-10-19 오전 7:30 : close 대신 finish. 중간에 실패했을 때 try-with-resources가 파일의 끝 표시를 써서 잘린 파일이 정상 파일처럼 보였음
+ */
+public class AuctionColumnarWriter implements Consumer<AuctionBaseEntity> {
+
+  private static final byte[] MAGIC = {'A', 'P', 'C', 'B'};
+  private static final byte VERSION = 1;
+  private static final int ROW_GROUP_SIZE = 4096;
+
+  private final DataOutputStream out;
+
+  // 문자열 사전. 파일 전체에서 공유하고, row group마다 새로 생긴 항목만 씀
+  private final Map<String, Integer> dictionary = new HashMap<>();
+  private final List<String> newDictionaryEntries = new ArrayList<>();
+
+  // row group 버퍼
+  private final long[] epochDays = new long[ROW_GROUP_SIZE];
+  private final int[] marketIds = new int[ROW_GROUP_SIZE];
+  private final int[] unitIds = new int[ROW_GROUP_SIZE];
+  private final int[] prices = new int[ROW_GROUP_SIZE];
+  private int rowCount = 0;
+
+  public AuctionColumnarWriter(
+      OutputStream outputStream,
+      String large,
+      String middle,
+      String productName,
+      String productRank
+  ) throws IOException {
+    this.out = new DataOutputStream(new BufferedOutputStream(outputStream, 8192));
+
+    out.write(MAGIC);
+    out.writeByte(VERSION);
+    out.writeUTF(large);
+    out.writeUTF(middle);
+    out.writeUTF(productName);
+    out.writeUTF(productRank);
+  }
+
+  @Override
+  public void accept(AuctionBaseEntity entity) {
+    epochDays[rowCount] = entity.getDelDate().toEpochDay();
+    marketIds[rowCount] = dictionaryId(entity.getMarket_name());
+    unitIds[rowCount] = (entity.getDel_unit() == null) ? 0 : dictionaryId(entity.getDel_unit()) + 1;
+    prices[rowCount] = entity.getPrice();
+    rowCount++;
+
+    if (rowCount == ROW_GROUP_SIZE) {
+      try {
+        writeRowGroup();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * 남은 행과 파일의 끝 표시를 쓰는 메서드
+   * @info 모든 행을 쓴 다음에만 호출함. 끝 표시가 없는 파일은 읽는 쪽에서 잘린 파일로 봄
+   * @info outputStream은 응답 스트림이라 닫지 않음
+   */
+  public void finish() throws IOException {
+    if (rowCount > 0) {
+      writeRowGroup();
+    }
+    out.writeInt(0);
+    out.flush();
+  }
+
+  private void writeRowGroup() throws IOException {
+    out.writeInt(rowCount);
+
+    writeVarInt(newDictionaryEntries.size());
+    for (String entry : newDictionaryEntries) {
+      out.writeUTF(entry);
+    }
+    newDictionaryEntries.clear();
+
+    out.writeInt((int) epochDays[0]);
+    for (int i = 1; i < rowCount; i++) {
+      writeVarInt((int) (epochDays[i] - epochDays[i - 1]));
+    }
+    for (int i = 0; i < rowCount; i++) {
+      writeVarInt(marketIds[i]);
+    }
+    for (int i = 0; i < rowCount; i++) {
+      writeVarInt(unitIds[i]);
+    }
+    for (int i = 0; i < rowCount; i++) {
+      writeVarInt(prices[i]);
+    }
+
+    rowCount = 0;
+  }
+
+  // 시장 이름이 없는 행은 빈 문자열로 씀
+  private int dictionaryId(String value) {
+    String key = (value == null) ? "" : value;
+
+    Integer id = dictionary.get(key);
+    if (id == null) {
+      id = dictionary.size();
+      dictionary.put(key, id);
+      newDictionaryEntries.add(key);
+    }
+
+    return id;
+  }
+
+  // 음수는 없다고 가정함(날짜 차이, 사전 번호, 가격)
+  private void writeVarInt(int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.actionprice.auctionData.export;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래내역을 CSV로 쓰는 객체
+ * @author 연상훈
+ * @created 2026-10-19 오전 2:40
+ * @info 엑셀과 같은 컬럼(날짜, 거래시장, 대분류, 중분류, 상품등급, 상품명, 거래단위, 가격)을 같은 순서로 씀. 인코딩은 UTF-8
+ * @info 날짜는 다른 도구에서 바로 날짜로 읽히도록 yyyy-MM-dd로 씀
+ * @info 행을 받는 대로 버퍼를 거쳐 바로 outputStream으로 내보내서, 엑셀처럼 임시 파일을 만들지 않음
+ * @info gzip이면 GZIPOutputStream으로 한 번 감쌈. 긴 기간은 같은 값이 반복되는 행이 대부분이라 크게 줄어듦
+ * @info 쉼표, 큰따옴표, 줄바꿈이 들어간 값은 RFC 4180처럼 큰따옴표로 감싸고 큰따옴표는 두 번 씀
+ * @updated 2026-10-19 오전 7:30 : close 대신 finish. 중간에 실패했을 때 try-with-resources가 gzip trailer를 써서 잘린 파일이 정상 파일처럼 보였음
+ */
+public class AuctionCsvWriter implements Consumer<AuctionBaseEntity> {
+
+  private static final String HEADER = "날짜,거래시장,대분류,중분류,상품등급,상품명,거래단위,가격";
+
+  private final GZIPOutputStream gzipOutputStream;
+  private final Writer writer;
+
+  public AuctionCsvWriter(OutputStream outputStream, boolean gzip) throws IOException {
+    this.gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, 8192) : null;
+    this.writer = new BufferedWriter(new OutputStreamWriter(
+        gzip ? gzipOutputStream : outputStream, StandardCharsets.UTF_8), 8192);
+
+    writer.write(HEADER);
+    writer.write('\n');
+  }
+
+  @Override
+  public void accept(AuctionBaseEntity entity) {
+    try {
+      writer.write(entity.getDelDate().toString());
+      writeField(entity.getMarket_name());
+      writeField(entity.getLarge());
+      writeField(entity.getMiddle());
+      writeField(entity.getProductRank());
+      writeField(entity.getProductName());
+      writeField(entity.getDel_unit());
+      writer.write(',');
+      writer.write(Integer.toString(entity.getPrice()));
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 남은 버퍼를 내보내는 메서드
+   * @info 모든 행을 쓴 다음에만 호출함
+   * @info outputStream은 응답 스트림이라 닫지 않음. gzip이면 trailer까지 쓰고 끝냄
+   */
+  public void finish() throws IOException {
+    writer.flush();
+    if (gzipOutputStream != null) {
+      gzipOutputStream.finish();
+    }
+  }
+
+  private void writeField(String value) throws IOException {
+    writer.write(',');
+    if (value == null) {
+      return;
+    }
+
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      writer.write(value);
+      return;
+    }
+
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 백필 작업의 진행 상황
+ * @author 연상훈
+ * @created 2026-10-18 오후 5:15
+ * @value running : 백필이 진행 중인지 여부
+ * @value totalUnitCount : 기간 내 전체 unit 수
+ * @value completedUnitCount : 체크포인트가 기록된 unit 수
+ * @value deadLetterCount : 재시도까지 실패해서 dead letter로 남은 unit 수
+ * @info 진행 상황은 메모리가 아니라 체크포인트 테이블에서 계산하기 때문에, 서버가 재시작된 후에도 그대로 조회됨
+ */
+@Getter
+@Builder
+@ToString
+public class AuctionBackfillStatusDTO {
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private boolean running;
+  private LocalDateTime startedAt;
+  private int totalUnitCount;
+  private long completedUnitCount;
+  private long deadLetterCount;
+}
@@ -0,0 +1,40 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 수집으로 경매 데이터가 새로 저장되었을 때 발행되는 이벤트
+ * @author 연상훈
+ * @created 2026-10-18 오후 9:35
+ * @updated 2026-10-18 오후 11:20 : 대분류와 날짜를 따로 들고 있던 것을 대분류별로 실제 저장된 날짜로 바꿈. history 모드의 과거 가격 날짜도 포함됨
+ * @updated 2026-10-19 오전 1:00 : 대분류별로 저장된 중분류(품목)도 함께 들고 있음. 그래프 캐시가 품목 단위로 무효화할 수 있게 함
+ * @value touchedDates : key : 대분류 이름, value : 그 대분류에서 행이 저장된 날짜들
+ * @value touchedMiddles : key : 대분류 이름, value : 그 대분류에서 행이 저장된 중분류들
+ * @info 수집 한 번(runUnits)이 끝날 때 한 번만 발행됨. 저장된 행이 하나도 없으면 발행하지 않음
+ * @info 조회 쪽 캐시들은 이걸 받아서 해당 대분류의 캐시를 무효화하고, 집계 테이블은 해당 날짜의 구간을 다시 집계함
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuctionDataIngestedEvent {
+
+  private Map<String, Set<LocalDate>> touchedDates;
+  private Map<String, Set<String>> touchedMiddles;
+
+  public Set<String> getLarges() {
+    return touchedDates.keySet();
+  }
+
+  public Set<LocalDate> getDates() {
+    return touchedDates.values()
+        .stream()
+        .flatMap(Set::stream)
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.actionprice.auctionData.ingest;
+
+import com.example.actionprice.customerService.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백필 중에 수집이 끝난 unit을 기록해두는 객체
+ * @author 연상훈
+ * @created 2026-10-18 오후 5:10
+ * @value delDate : 조회 날짜
+ * @value marketCode : 시장 코드
+ * @value categoryCode : 대분류 코드
+ * @value savedRowCount : 저장된 행 수
+ * @info 백필을 다시 실행하면 여기에 기록된 unit은 건너뜀. 그래서 중간에 서버가 죽어도 이어서 진행할 수 있음
+ * @info 저장과 체크포인트 기록 사이에 죽으면 그 unit은 다시 수집되지만, 저장이 upsert라 중복은 생기지 않음
+ */
+@Getter
+@Builder
+@Entity
+@Table(
+    name = "auction_ingest_checkpoint",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_ingest_checkpoint_unit",
+        columnNames = {"del_date", "market_code", "category_code"}
+    )
+)
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionIngestCheckpoint extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "del_date", nullable = false)
+  private LocalDate delDate;
+
+  @Column(name = "market_code", nullable = false, length = 10)
+  private String marketCode;
+
+  @Column(name = "category_code", nullable = false, length = 10)
+  private String categoryCode;
+
+  @Column(name = "saved_row_count", nullable = false)
+  private int savedRowCount;
+}
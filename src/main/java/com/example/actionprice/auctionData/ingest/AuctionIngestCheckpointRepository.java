@@ -0,0 +1,42 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author 연상훈
+ * @created 2026-10-18 오후 5:12
+ */
+public interface AuctionIngestCheckpointRepository extends JpaRepository<AuctionIngestCheckpoint, Long> {
+
+  // 엔티티 전체를 올리지 않고 unit을 식별하는 컬럼만 가져옴. [delDate, marketCode, categoryCode]
+  @Query("SELECT c.delDate, c.marketCode, c.categoryCode FROM AuctionIngestCheckpoint c WHERE c.delDate BETWEEN :startDate AND :endDate")
+  List<Object[]> findUnitKeysByDelDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  // [delDate, marketCode, categoryCode, savedRowCount]
+  @Query("SELECT c.delDate, c.marketCode, c.categoryCode, c.savedRowCount FROM AuctionIngestCheckpoint c WHERE c.delDate BETWEEN :startDate AND :endDate")
+  List<Object[]> findUnitRowCountsByDelDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  long countByDelDateBetween(LocalDate startDate, LocalDate endDate);
+
+  // 없으면 만들고, 있으면 저장된 행 수만 갱신함
+  @Modifying
+  @Transactional
+  @Query(
+      value = "INSERT INTO auction_ingest_checkpoint (del_date, market_code, category_code, saved_row_count, createdAt, updatedAt) "
+          + "VALUES (:delDate, :marketCode, :categoryCode, :savedRowCount, NOW(), NOW()) "
+          + "ON DUPLICATE KEY UPDATE saved_row_count = VALUES(saved_row_count), updatedAt = NOW()",
+      nativeQuery = true
+  )
+  int record(
+      @Param("delDate") LocalDate delDate,
+      @Param("marketCode") String marketCode,
+      @Param("categoryCode") String categoryCode,
+      @Param("savedRowCount") int savedRowCount
+  );
+}
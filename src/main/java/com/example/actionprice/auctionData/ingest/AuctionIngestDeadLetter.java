@@ -0,0 +1,78 @@
+package com.example.actionprice.auctionData.ingest;
+
+import com.example.actionprice.customerService.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 재시도까지 전부 실패한 수집 unit을 기록해두는 객체
+ * @author 연상훈
+ * @created 2026-10-18 오후 4:40
+ * @value delDate : 조회 날짜
+ * @value marketCode, marketName : 시장
+ * @value categoryCode, categoryName : 대분류
+ * @value errorMessage : 마지막 에러 메시지
+ * @value failedCount : 지금까지 실패한 횟수
+ * @info (날짜, 시장, 대분류)마다 하나만 존재함. 다시 실패하면 failedCount만 올라가고, 성공하면 삭제됨
+ * @info 여기에 남아 있는 unit은 관리자 api나 스케줄러가 다시 수집함
+ */
+@Getter
+@Builder
+@Entity
+@Table(
+    name = "auction_ingest_dead_letter",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_ingest_dead_letter_unit",
+        columnNames = {"del_date", "market_code", "category_code"}
+    )
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AuctionIngestDeadLetter extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "del_date", nullable = false)
+  private LocalDate delDate;
+
+  @Column(name = "market_code", nullable = false, length = 10)
+  private String marketCode;
+
+  @Column(name = "market_name", nullable = false, length = 20)
+  private String marketName;
+
+  @Column(name = "category_code", nullable = false, length = 10)
+  private String categoryCode;
+
+  @Column(name = "category_name", nullable = false, length = 20)
+  private String categoryName;
+
+  @Column(name = "error_message", length = 500)
+  private String errorMessage;
+
+  @Column(name = "failed_count", nullable = false)
+  private int failedCount;
+
+  public void recordFailure(String errorMessage) {
+    this.errorMessage = errorMessage;
+    this.failedCount++;
+  }
+
+  public AuctionIngestUnit toUnit() {
+    return new AuctionIngestUnit(delDate, marketCode, marketName, categoryCode, categoryName);
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * @author 연상훈
+ * @created 2026-10-18 오후 4:42
+ */
+public interface AuctionIngestDeadLetterRepository extends JpaRepository<AuctionIngestDeadLetter, Long> {
+
+  Optional<AuctionIngestDeadLetter> findByDelDateAndMarketCodeAndCategoryCode(LocalDate delDate, String marketCode, String categoryCode);
+
+  long countByDelDateBetween(LocalDate startDate, LocalDate endDate);
+
+  List<AuctionIngestDeadLetter> findByDelDateBetween(LocalDate startDate, LocalDate endDate);
+}
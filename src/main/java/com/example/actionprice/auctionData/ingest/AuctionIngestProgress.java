@@ -0,0 +1,73 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * 날짜별 수집 진행 상황을 추적하는 객체
+ * @author 연상훈
+ * @created 2026-10-18 오전 10:20
+ * @info 여러 스레드에서 동시에 기록하기 때문에 카운터는 전부 Atomic 타입을 사용함
+ * @info 마지막 unit이 기록되는 순간 완료 시각이 고정됨
+ */
+public class AuctionIngestProgress {
+
+  @Getter
+  private final LocalDate date;
+
+  @Getter
+  private final int totalUnitCount;
+
+  private final AtomicInteger successUnitCount = new AtomicInteger();
+  private final AtomicInteger failedUnitCount = new AtomicInteger();
+  private final AtomicInteger doneUnitCount = new AtomicInteger();
+  private final AtomicLong savedRowCount = new AtomicLong();
+  private final long startedAt = System.currentTimeMillis();
+  private volatile long finishedAt;
+
+  public AuctionIngestProgress(LocalDate date, int totalUnitCount) {
+    this.date = date;
+    this.totalUnitCount = totalUnitCount;
+  }
+
+  /**
+   * @return 이 기록으로 해당 날짜의 모든 unit이 끝났으면 true
+   */
+  public boolean recordSuccess(int rowCount) {
+    savedRowCount.addAndGet(rowCount);
+    successUnitCount.incrementAndGet();
+    return checkCompleted();
+  }
+
+  /**
+   * @return 이 기록으로 해당 날짜의 모든 unit이 끝났으면 true
+   */
+  public boolean recordFailure() {
+    failedUnitCount.incrementAndGet();
+    return checkCompleted();
+  }
+
+  public AuctionIngestResultDTO toResultDTO() {
+    long endTime = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+
+    return AuctionIngestResultDTO.builder()
+        .date(date)
+        .totalUnitCount(totalUnitCount)
+        .successUnitCount(successUnitCount.get())
+        .failedUnitCount(failedUnitCount.get())
+        .savedRowCount(savedRowCount.get())
+        .elapsedMillis(endTime - startedAt)
+        .build();
+  }
+
+  // 성공/실패 카운터를 따로 더하면 두 스레드가 동시에 완료로 판단할 수 있어서 별도의 카운터로 판단함
+  private boolean checkCompleted() {
+    if (doneUnitCount.incrementAndGet() == totalUnitCount) {
+      finishedAt = System.currentTimeMillis();
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 하루치 수집 결과
+ * @author 연상훈
+ * @created 2026-10-18 오전 10:15
+ */
+@Getter
+@Builder
+@ToString
+public class AuctionIngestResultDTO {
+  private LocalDate date; // 수집한 날짜
+  private int totalUnitCount; // 요청해야 할 (시장, 대분류) 조합 수
+  private int successUnitCount; // 성공한 조합 수
+  private int failedUnitCount; // 실패한 조합 수
+  private long savedRowCount; // 저장된 행 수
+  private long elapsedMillis; // 소요 시간
+}
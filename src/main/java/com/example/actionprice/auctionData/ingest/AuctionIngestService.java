@@ -0,0 +1,31 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AuctionIngestService {
+
+  // 하루치 데이터 수집
+  AuctionIngestResultDTO ingestDate(LocalDate date);
+
+  // 최근 며칠 중 아직 받지 못한 unit만, 공개된 날짜에 한해 수집
+  List<AuctionIngestResultDTO> ingestNewData(LocalDate today);
+
+  // 기간 내의 모든 날짜 데이터 수집
+  List<AuctionIngestResultDTO> ingestDateRange(LocalDate startDate, LocalDate endDate);
+
+  // 재시도까지 실패해서 dead letter로 남은 unit 재수집
+  List<AuctionIngestResultDTO> replayDeadLetters();
+
+  // 체크포인트를 남기면서 기간 내 데이터 수집. 이미 끝난 unit은 건너뜀
+  List<AuctionIngestResultDTO> backfill(LocalDate startDate, LocalDate endDate);
+
+  // 백필을 백그라운드에서 시작
+  AuctionBackfillStatusDTO startBackfill(LocalDate startDate, LocalDate endDate);
+
+  // 백필 진행 상황 조회
+  AuctionBackfillStatusDTO getBackfillStatus(LocalDate startDate, LocalDate endDate);
+
+  // dead letter 목록 조회
+  List<AuctionIngestDeadLetter> getDeadLetters();
+}
@@ -0,0 +1,554 @@
+package com.example.actionprice.auctionData.ingest;
+
+import com.example.actionprice.auctionData.detailCategory.AllSortingComponent;
+import com.example.actionprice.auctionData.originAuctionData.OriginAuctionDataFetcher;
+import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
+import com.example.actionprice.auctionData.service.AuctionEntityService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * KAMIS 데이터를 (날짜, 시장, 대분류) 단위로 병렬 수집하는 엔진
+ * @author 연상훈
+ * @created 2026-10-18 오전 10:30
+ * @value concurrency : 동시에 진행할 unit(= api 요청)의 최대 수
+ * @value history : true면 응답에 함께 들어 있는 과거 가격도 각 날짜의 데이터로 저장하고, 백필은 이틀에 한 번만 요청함
+ * @value lookbackDays : ingestNewData가 오늘부터 며칠 전까지 거슬러 올라가서 확인할지
+ * @value recheckDays : ingestNewData가 빈 응답이었던 unit을 최근 며칠까지 다시 요청할지
+ * @value probeMarketCode, probeCategoryCode : 데이터가 공개되었는지 확인할 때 쓰는 (시장, 대분류). 거의 매일 데이터가 있는 서울 채소류가 기본값
+ * @info 기존에는 테스트 코드에서 144개의 요청을 CountDownLatch로 하나씩 기다리며 순차적으로 처리했음
+ * @info 모든 unit을 한 번에 펼친 다음 flatMap의 concurrency로 동시 요청 수를 제한함
+ * @info 저장은 블로킹(JPA)이라 boundedElastic 스케줄러로 넘겨서 netty 이벤트 루프를 막지 않도록 함
+ * @updated 2026-10-18 오후 9:35 : 수집이 끝나면 저장된 대분류와 날짜를 AuctionDataIngestedEvent로 발행
+ * @updated 2026-10-18 오후 11:20 : 이벤트의 날짜에 history 모드의 과거 가격 날짜도 포함
+ * @updated 2026-10-19 오전 1:00 : 이벤트에 저장된 중분류도 포함
+ * @updated 2026-10-19 오전 4:00 : 설정 접두어를 fetcher와 같은 auction-data.ingest로 통일
+ * @updated 2026-10-19 오전 8:10 : 키를 kebab-case(lookback-days, recheck-days, probe-market-code, probe-category-code)로 변경. @Value는 kebab-case로 쓴 키만 relaxed binding을 해서, camelCase로 쓰면 그 철자 그대로만 읽히고 나머지는 조용히 무시됐음
+ * @info 그래서 auctionData.ingest.lookbackDays, auction-data.ingest.lookbackDays, auction-data.ingest.lookback-days 모두 같은 값으로 읽힘
+ * @updated 2026-10-19 오전 4:00 : 성공한 unit의 dead letter는 unit마다 지우지 않고 수집이 끝난 뒤 한 번에 지움
+ * @updated 2026-10-19 오전 4:30 : ingestNewData는 워터마크 대신 체크포인트로 남은 unit을 고름. 워터마크는 행이 저장된 unit만 올림
+ * @updated 2026-10-18 오후 6:45 : 과거 가격 컬럼(1일전 ~ 1년전)까지 저장하는 history 모드 추가
+ * @updated 2026-10-18 오후 6:00 : 워터마크와 공개 여부 확인(probe)으로 새로 공개된 데이터만 수집하는 ingestNewData 추가
+ * @updated 2026-10-18 오후 5:20 : 체크포인트 기반의 백필 추가
+ * @updated 2026-10-18 오후 4:45 : 일시적인 오류는 fetcher에서 재시도하고, 재시도까지 실패한 unit은 dead letter로 남겨서 나중에 다시 수집함
+ */
+@Service
+@Log4j2
+public class AuctionIngestServiceImpl implements AuctionIngestService {
+
+  private final OriginAuctionDataFetcher originAuctionDataFetcher;
+  private final AllSortingComponent allSortingComponent;
+  private final AuctionEntityService auctionEntityService;
+  private final AuctionIngestDeadLetterRepository deadLetterRepository;
+  private final AuctionIngestCheckpointRepository checkpointRepository;
+  private final AuctionIngestWatermarkRepository watermarkRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int concurrency;
+  private final boolean history;
+  private final int lookbackDays;
+  private final int recheckDays;
+  private final String probeMarketCode;
+  private final String probeCategoryCode;
+
+  // 백필은 한 번에 하나만 돌 수 있음
+  private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+  private volatile LocalDate backfillStartDate;
+  private volatile LocalDate backfillEndDate;
+  private volatile LocalDateTime backfillStartedAt;
+
+  public AuctionIngestServiceImpl(
+      OriginAuctionDataFetcher originAuctionDataFetcher,
+      AllSortingComponent allSortingComponent,
+      AuctionEntityService auctionEntityService,
+      AuctionIngestDeadLetterRepository deadLetterRepository,
+      AuctionIngestCheckpointRepository checkpointRepository,
+      AuctionIngestWatermarkRepository watermarkRepository,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${auction-data.ingest.concurrency:24}") int concurrency,
+      @Value("${auction-data.ingest.history:false}") boolean history,
+      @Value("${auction-data.ingest.lookback-days:7}") int lookbackDays,
+      @Value("${auction-data.ingest.recheck-days:2}") int recheckDays,
+      @Value("${auction-data.ingest.probe-market-code:1101}") String probeMarketCode,
+      @Value("${auction-data.ingest.probe-category-code:200}") String probeCategoryCode
+  ) {
+    this.originAuctionDataFetcher = originAuctionDataFetcher;
+    this.allSortingComponent = allSortingComponent;
+    this.auctionEntityService = auctionEntityService;
+    this.deadLetterRepository = deadLetterRepository;
+    this.checkpointRepository = checkpointRepository;
+    this.watermarkRepository = watermarkRepository;
+    this.eventPublisher = eventPublisher;
+    this.concurrency = concurrency;
+    this.history = history;
+    this.lookbackDays = lookbackDays;
+    this.recheckDays = recheckDays;
+    this.probeMarketCode = probeMarketCode;
+    this.probeCategoryCode = probeCategoryCode;
+  }
+
+  @Override
+  public AuctionIngestResultDTO ingestDate(LocalDate date) {
+    return ingestDateRange(date, date).get(0);
+  }
+
+  /**
+   * 새로 공개된 데이터만 수집하는 메서드
+   * @param today 기준일
+   * @author 연상훈
+   * @created 2026-10-18 오후 6:00
+   * @info 1. 최근 lookbackDays일 중에서, 아직 데이터를 받지 못한 (시장, 대분류)가 하나라도 있는 날짜만 후보로 삼음
+   * @info 2. 후보 날짜마다 probe 요청을 한 번씩 보내서 KAMIS가 그 날짜를 공개했는지 확인함. 공개되지 않았으면 144개 요청을 전부 건너뜀
+   * @info 3. 공개된 날짜 중에서 아직 데이터를 받지 못한 (시장, 대분류)만 수집함
+   * @info 그래서 이미 다 받은 날에는 요청이 0개, 아직 공개 전인 날에는 probe 1개만 나감
+   * @updated 2026-10-19 오전 4:30 : 워터마크 대신 unit별 체크포인트로 판단함
+   * @info 워터마크는 (시장, 대분류)마다 날짜 하나뿐이라, 빈 응답으로 넘어간 날짜나 뒤늦게 공개된 날짜를 GREATEST가 건너뛰었음
+   * @info 빈 응답이었던 unit은 최근 recheckDays일 동안은 다시 요청함. 일부 (시장, 대분류)만 늦게 공개되는 경우를 놓치지 않기 위함
+   * @info 그보다 오래된 빈 unit은 원래 거래가 없는 조합으로 보고 다시 요청하지 않음
+   */
+  @Override
+  public List<AuctionIngestResultDTO> ingestNewData(LocalDate today) {
+    LocalDate startDate = today.minusDays(lookbackDays - 1L);
+    LocalDate recheckStartDate = today.minusDays(recheckDays - 1L);
+
+    // key : unit 키, value : 저장된 행 수
+    Map<String, Integer> savedRowCountMap = new HashMap<>();
+    for (Object[] row : checkpointRepository.findUnitRowCountsByDelDateBetween(startDate, today)) {
+      savedRowCountMap.put(composeUnitKey((LocalDate) row[0], (String) row[1], (String) row[2]), (Integer) row[3]);
+    }
+
+    Map<LocalDate, List<AuctionIngestUnit>> pendingUnitMap = composeUnits(startDate, today)
+        .stream()
+        .filter(unit -> {
+          Integer savedRowCount = savedRowCountMap.get(composeUnitKey(unit.getDate(), unit.getMarketCode(), unit.getCategoryCode()));
+          return savedRowCount == null || (savedRowCount == 0 && !unit.getDate().isBefore(recheckStartDate));
+        })
+        .collect(Collectors.groupingBy(AuctionIngestUnit::getDate, TreeMap::new, Collectors.toList()));
+
+    List<LocalDate> publishedDates = Flux.fromIterable(pendingUnitMap.keySet())
+        .concatMap(date -> isPublished(date)
+            .filter(Boolean::booleanValue)
+            .map(published -> date))
+        .collectList()
+        .block();
+
+    List<AuctionIngestUnit> units = new ArrayList<>();
+    for (LocalDate date : publishedDates) {
+      units.addAll(pendingUnitMap.get(date));
+    }
+
+    log.info("[class] AuctionIngestServiceImpl - [method] ingestNewData - candidates : {} | published : {} | units : {}",
+        pendingUnitMap.keySet(), publishedDates, units.size());
+
+    return runUnits(units, true);
+  }
+
+  /**
+   * 기간 내의 모든 (날짜, 시장, 대분류) 조합을 병렬로 수집하는 메서드
+   * @param startDate 시작일(포함)
+   * @param endDate 종료일(포함)
+   * @author 연상훈
+   * @created 2026-10-18 오전 10:34
+   * @info 날짜별로 진행 상황을 추적해서, 하루치가 끝날 때마다 결과를 로그로 남김
+   * @info 한 unit이 실패해도 나머지는 계속 진행됨
+   */
+  @Override
+  public List<AuctionIngestResultDTO> ingestDateRange(LocalDate startDate, LocalDate endDate) {
+    validateDateRange(startDate, endDate);
+
+    List<AuctionIngestUnit> units = composeUnits(startDate, endDate);
+
+    log.info("[class] AuctionIngestServiceImpl - [method] ingestDateRange - {} ~ {} | units : {} | concurrency : {}",
+        startDate, endDate, units.size(), concurrency);
+
+    return runUnits(units, false);
+  }
+
+  /**
+   * 체크포인트를 남기면서 기간 내의 데이터를 수집하는 메서드
+   * @param startDate 시작일(포함)
+   * @param endDate 종료일(포함)
+   * @author 연상훈
+   * @created 2026-10-18 오후 5:20
+   * @info 체크포인트에 이미 기록된 unit은 건너뛰고 나머지만 수집함. 성공한 unit은 바로 체크포인트에 기록됨
+   * @info 그래서 1년치(365일 x 144 unit)를 받다가 중간에 죽어도, 같은 기간으로 다시 호출하면 남은 것부터 이어서 진행함
+   * @info 실패한 unit은 체크포인트가 없으니 다음 백필에서 다시 시도됨
+   * @info history 모드에서는 한 번의 응답에 당일과 1일전 가격이 함께 들어 있으므로, 종료일부터 거꾸로 이틀에 한 번만 요청함
+   * @info 1주일전 ~ 1년전 가격은 이미 있는 값을 덮어쓰지 않고 빈 곳만 채움
+   */
+  @Override
+  public List<AuctionIngestResultDTO> backfill(LocalDate startDate, LocalDate endDate) {
+    validateDateRange(startDate, endDate);
+
+    Set<String> completedUnitKeys = new HashSet<>();
+    for (Object[] row : checkpointRepository.findUnitKeysByDelDateBetween(startDate, endDate)) {
+      completedUnitKeys.add(composeUnitKey((LocalDate) row[0], (String) row[1], (String) row[2]));
+    }
+
+    List<AuctionIngestUnit> allUnits = composeUnits(composeDates(startDate, endDate, backfillStride()));
+    List<AuctionIngestUnit> units = allUnits.stream()
+        .filter(unit -> !completedUnitKeys.contains(composeUnitKey(unit.getDate(), unit.getMarketCode(), unit.getCategoryCode())))
+        .toList();
+
+    log.info("[class] AuctionIngestServiceImpl - [method] backfill - {} ~ {} | units : {} | skipped : {} | concurrency : {}",
+        startDate, endDate, units.size(), allUnits.size() - units.size(), concurrency);
+
+    return runUnits(units, true);
+  }
+
+  /**
+   * 백필을 백그라운드에서 시작하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 5:25
+   * @info 기간이 길면 몇십 분씩 걸리기 때문에 요청 스레드에서 기다리지 않고 boundedElastic에서 실행함
+   * @info 이미 백필이 돌고 있으면 새로 시작하지 않고 진행 중인 백필의 상황을 반환함
+   */
+  @Override
+  public AuctionBackfillStatusDTO startBackfill(LocalDate startDate, LocalDate endDate) {
+    validateDateRange(startDate, endDate);
+
+    if (!backfillRunning.compareAndSet(false, true)) {
+      log.warn("[class] AuctionIngestServiceImpl - [method] startBackfill - already running : {} ~ {}", backfillStartDate, backfillEndDate);
+      return getBackfillStatus(backfillStartDate, backfillEndDate);
+    }
+
+    backfillStartDate = startDate;
+    backfillEndDate = endDate;
+    backfillStartedAt = LocalDateTime.now();
+
+    Mono.fromCallable(() -> backfill(startDate, endDate))
+        .subscribeOn(Schedulers.boundedElastic())
+        .doFinally(signal -> backfillRunning.set(false))
+        .subscribe(
+            results -> log.info("[class] AuctionIngestServiceImpl - [method] startBackfill - finished : {} ~ {}", startDate, endDate),
+            e -> log.error("[class] AuctionIngestServiceImpl - [method] startBackfill - aborted : {}", e.getMessage())
+        );
+
+    return getBackfillStatus(startDate, endDate);
+  }
+
+  @Override
+  public AuctionBackfillStatusDTO getBackfillStatus(LocalDate startDate, LocalDate endDate) {
+    validateDateRange(startDate, endDate);
+
+    boolean running = backfillRunning.get()
+        && startDate.equals(backfillStartDate)
+        && endDate.equals(backfillEndDate);
+
+    return AuctionBackfillStatusDTO.builder()
+        .startDate(startDate)
+        .endDate(endDate)
+        .running(running)
+        .startedAt(running ? backfillStartedAt : null)
+        .totalUnitCount(composeDates(startDate, endDate, backfillStride()).size() * countUnitsPerDay())
+        .completedUnitCount(checkpointRepository.countByDelDateBetween(startDate, endDate))
+        .deadLetterCount(deadLetterRepository.countByDelDateBetween(startDate, endDate))
+        .build();
+  }
+
+  /**
+   * dead letter로 남아 있는 unit을 전부 다시 수집하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 4:50
+   * @info 성공한 unit은 dead letter에서 삭제되고, 또 실패하면 failedCount만 올라감
+   */
+  @Override
+  public List<AuctionIngestResultDTO> replayDeadLetters() {
+    List<AuctionIngestUnit> units = deadLetterRepository.findAll()
+        .stream()
+        .map(AuctionIngestDeadLetter::toUnit)
+        .toList();
+
+    log.info("[class] AuctionIngestServiceImpl - [method] replayDeadLetters - units : {}", units.size());
+
+    return runUnits(units, false);
+  }
+
+  @Override
+  public List<AuctionIngestDeadLetter> getDeadLetters() {
+    return deadLetterRepository.findAll();
+  }
+
+  /**
+   * unit들을 병렬로 수집하고 날짜별 결과를 반환하는 메서드
+   * @param checkpoint true면 성공한 unit을 체크포인트에 기록
+   * @info 워터마크는 실제로 행이 저장된 unit만 올림. 빈 응답은 아직 공개 전일 수도 있기 때문
+   */
+  private List<AuctionIngestResultDTO> runUnits(List<AuctionIngestUnit> units, boolean checkpoint) {
+    Map<LocalDate, AuctionIngestProgress> progressMap = new LinkedHashMap<>();
+    units.stream()
+        .collect(Collectors.groupingBy(AuctionIngestUnit::getDate, TreeMap::new, Collectors.counting()))
+        .forEach((date, unitCount) -> progressMap.put(date, new AuctionIngestProgress(date, unitCount.intValue())));
+
+    // 실제로 행이 저장된 날짜들. key : 대분류 이름
+    Map<String, Set<LocalDate>> touchedDates = new ConcurrentHashMap<>();
+    // 실제로 행이 저장된 중분류들. key : 대분류 이름
+    Map<String, Set<String>> touchedMiddles = new ConcurrentHashMap<>();
+    // 성공한 unit들의 키. dead letter는 수집이 끝난 뒤에 한 번에 지움
+    Set<String> succeededUnitKeys = ConcurrentHashMap.newKeySet();
+
+    Flux.fromIterable(units)
+        .flatMap(unit -> ingestUnit(unit, progressMap.get(unit.getDate()), checkpoint, touchedDates, touchedMiddles, succeededUnitKeys), concurrency)
+        .blockLast();
+
+    clearDeadLetters(progressMap.keySet(), succeededUnitKeys);
+
+    publishIngested(touchedDates, touchedMiddles);
+
+    return progressMap.values()
+        .stream()
+        .map(AuctionIngestProgress::toResultDTO)
+        .toList();
+  }
+
+  /**
+   * unit 하나를 수집하고 저장하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오전 10:40
+   * @info 에러는 여기서 삼켜서 진행 상황에 실패로 기록함. 그래야 다른 unit의 수집이 중단되지 않음
+   * @updated 2026-10-18 오후 4:45 : 재시도는 fetcher에서 처리함. 여기까지 올라온 에러는 dead letter로 기록
+   */
+  private Mono<Integer> ingestUnit(
+      AuctionIngestUnit unit,
+      AuctionIngestProgress progress,
+      boolean checkpoint,
+      Map<String, Set<LocalDate>> touchedDates,
+      Map<String, Set<String>> touchedMiddles,
+      Set<String> succeededUnitKeys
+  ) {
+    return originAuctionDataFetcher.getAuctionData_Rows(unit.getMarketCode(), unit.getRegday(), unit.getCategoryCode())
+        .publishOn(Schedulers.boundedElastic())
+        .map(rows -> {
+          int rowCount = saveRows(unit, rows);
+          if (rowCount > 0) {
+            recordTouchedDates(touchedDates, unit, rows);
+            recordTouchedMiddles(touchedMiddles, unit, rows);
+          }
+          succeededUnitKeys.add(composeUnitKey(unit.getDate(), unit.getMarketCode(), unit.getCategoryCode()));
+          if (rowCount > 0) {
+            watermarkRepository.advance(unit.getMarketCode(), unit.getCategoryCode(), unit.getDate());
+          }
+          if (checkpoint) {
+            recordCheckpoint(unit, rowCount);
+          }
+          return rowCount;
+        })
+        .doOnNext(rowCount -> {
+          if (progress.recordSuccess(rowCount)) {
+            logCompleted(progress);
+          }
+        })
+        .onErrorResume(e -> {
+          log.error("[class] AuctionIngestServiceImpl - [method] ingestUnit - unit : {} | error : {}", unit, e.toString());
+          return Mono.fromRunnable(() -> recordDeadLetter(unit, e))
+              .subscribeOn(Schedulers.boundedElastic())
+              .onErrorResume(deadLetterError -> {
+                log.error("[class] AuctionIngestServiceImpl - [method] ingestUnit - failed to record dead letter : {}", deadLetterError.getMessage());
+                return Mono.empty();
+              })
+              .doFinally(signal -> {
+                if (progress.recordFailure()) {
+                  logCompleted(progress);
+                }
+              })
+              .then(Mono.empty());
+        });
+  }
+
+  // 수집 날짜와, history 모드면 응답의 과거 가격 날짜까지 기록
+  private void recordTouchedDates(Map<String, Set<LocalDate>> touchedDates, AuctionIngestUnit unit, List<OriginAuctionDataRow> rows) {
+    Set<LocalDate> dateSet = touchedDates.computeIfAbsent(unit.getCategoryName(), categoryName -> ConcurrentHashMap.newKeySet());
+    dateSet.add(unit.getDate());
+    if (history) {
+      dateSet.addAll(auctionEntityService.resolveHistoryDates(rows, unit.getRegday()));
+    }
+  }
+
+  private void recordTouchedMiddles(Map<String, Set<String>> touchedMiddles, AuctionIngestUnit unit, List<OriginAuctionDataRow> rows) {
+    Set<String> middleSet = touchedMiddles.computeIfAbsent(unit.getCategoryName(), categoryName -> ConcurrentHashMap.newKeySet());
+    rows.stream()
+        .map(OriginAuctionDataRow::getItem_name)
+        .filter(Objects::nonNull) // ConcurrentHashMap은 null을 담을 수 없음
+        .forEach(middleSet::add);
+  }
+
+  private void publishIngested(Map<String, Set<LocalDate>> touchedDates, Map<String, Set<String>> touchedMiddles) {
+    if (touchedDates.isEmpty()) {
+      return;
+    }
+
+    AuctionDataIngestedEvent event = new AuctionDataIngestedEvent(touchedDates, touchedMiddles);
+
+    try {
+      eventPublisher.publishEvent(event);
+    } catch (Exception e) {
+      // 캐시 무효화나 집계가 실패해도 저장은 이미 끝났으니 수집 결과에는 영향을 주지 않음
+      log.error("[class] AuctionIngestServiceImpl - [method] publishIngested - event : {} | error : {}", event, e.toString());
+    }
+  }
+
+  private void recordDeadLetter(AuctionIngestUnit unit, Throwable error) {
+    String errorMessage = error.toString();
+    if (errorMessage.length() > 500) {
+      errorMessage = errorMessage.substring(0, 500);
+    }
+
+    AuctionIngestDeadLetter deadLetter = deadLetterRepository
+        .findByDelDateAndMarketCodeAndCategoryCode(unit.getDate(), unit.getMarketCode(), unit.getCategoryCode())
+        .orElseGet(() -> AuctionIngestDeadLetter.builder()
+            .delDate(unit.getDate())
+            .marketCode(unit.getMarketCode())
+            .marketName(unit.getMarketName())
+            .categoryCode(unit.getCategoryCode())
+            .categoryName(unit.getCategoryName())
+            .failedCount(0)
+            .build()
+        );
+
+    deadLetter.recordFailure(errorMessage);
+    deadLetterRepository.save(deadLetter);
+  }
+
+  // 빈 unit을 다시 수집하면 이미 체크포인트가 있으므로 upsert로 기록함
+  private void recordCheckpoint(AuctionIngestUnit unit, int rowCount) {
+    checkpointRepository.record(unit.getDate(), unit.getMarketCode(), unit.getCategoryCode(), rowCount);
+  }
+
+  /**
+   * 이번 수집에서 성공한 unit들의 dead letter를 지우는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 4:00
+   * @info unit마다 DELETE를 날리지 않고, 수집한 기간의 dead letter를 한 번 조회해서 성공한 것만 한 번에 지움
+   * @info 에러는 삼킴. 지우지 못한 dead letter는 다음 replay에서 다시 수집되고 성공하면 그때 지워짐
+   */
+  private void clearDeadLetters(Set<LocalDate> dates, Set<String> succeededUnitKeys) {
+    if (succeededUnitKeys.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<Long> deadLetterIds = deadLetterRepository
+          .findByDelDateBetween(Collections.min(dates), Collections.max(dates))
+          .stream()
+          .filter(deadLetter -> succeededUnitKeys.contains(composeUnitKey(deadLetter.getDelDate(), deadLetter.getMarketCode(), deadLetter.getCategoryCode())))
+          .map(AuctionIngestDeadLetter::getId)
+          .toList();
+
+      if (!deadLetterIds.isEmpty()) {
+        deadLetterRepository.deleteAllByIdInBatch(deadLetterIds);
+      }
+    } catch (Exception e) {
+      log.error("[class] AuctionIngestServiceImpl - [method] clearDeadLetters - error : {}", e.toString());
+    }
+  }
+
+  private int saveRows(AuctionIngestUnit unit, List<OriginAuctionDataRow> rows) {
+    if (rows.isEmpty()) {
+      return 0;
+    }
+
+    int savedRowCount = auctionEntityService.saveAllByCategory(
+        rows,
+        unit.getRegday(),
+        unit.getMarketName(),
+        unit.getCategoryName()
+    );
+
+    if (history) {
+      savedRowCount += auctionEntityService.saveHistoryByCategory(
+          rows,
+          unit.getRegday(),
+          unit.getMarketName(),
+          unit.getCategoryName()
+      );
+    }
+
+    return savedRowCount;
+  }
+
+  private List<AuctionIngestUnit> composeUnits(LocalDate startDate, LocalDate endDate) {
+    return composeUnits(composeDates(startDate, endDate, 1));
+  }
+
+  // 날짜 x 시장 x 대분류 조합을 전부 펼침
+  private List<AuctionIngestUnit> composeUnits(List<LocalDate> dates) {
+    List<AuctionIngestUnit> units = new ArrayList<>();
+
+    for (LocalDate date : dates) {
+      for (Map.Entry<String, String> marketEntry : allSortingComponent.getMarket_code_map().entrySet()) {
+        for (Map.Entry<String, String> categoryEntry : allSortingComponent.getGrand_sort().entrySet()) {
+          units.add(new AuctionIngestUnit(
+              date,
+              marketEntry.getKey(),
+              marketEntry.getValue(),
+              categoryEntry.getKey(),
+              categoryEntry.getValue()
+          ));
+        }
+      }
+    }
+
+    return units;
+  }
+
+  // 종료일부터 stride일 간격으로 거슬러 올라가며 날짜를 고른 다음, 오름차순으로 반환. 종료일은 항상 포함됨
+  private List<LocalDate> composeDates(LocalDate startDate, LocalDate endDate, int stride) {
+    List<LocalDate> dates = new ArrayList<>();
+    for (LocalDate date = endDate; !date.isBefore(startDate); date = date.minusDays(stride)) {
+      dates.add(date);
+    }
+    Collections.reverse(dates);
+    return dates;
+  }
+
+  private int backfillStride() {
+    return history ? 2 : 1;
+  }
+
+  private int countUnitsPerDay() {
+    return allSortingComponent.getMarket_code_map().size() * allSortingComponent.getGrand_sort().size();
+  }
+
+  // probe가 실패하면 공개되지 않은 것으로 보고 다음 실행 때 다시 확인함
+  private Mono<Boolean> isPublished(LocalDate date) {
+    return originAuctionDataFetcher.hasAuctionData(probeMarketCode, date.format(DateTimeFormatter.ISO_LOCAL_DATE), probeCategoryCode)
+        .onErrorResume(e -> {
+          log.error("[class] AuctionIngestServiceImpl - [method] isPublished - date : {} | error : {}", date, e.toString());
+          return Mono.just(false);
+        });
+  }
+
+  private String composeUnitKey(LocalDate date, String marketCode, String categoryCode) {
+    return date + "|" + marketCode + "|" + categoryCode;
+  }
+
+  private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+    if (startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("startDate(" + startDate + ") is after endDate(" + endDate + ")");
+    }
+  }
+
+  private void logCompleted(AuctionIngestProgress progress) {
+    log.info("[class] AuctionIngestServiceImpl - [method] logCompleted - {}", progress.toResultDTO());
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 수집 작업의 최소 단위. (날짜, 시장, 대분류) 하나가 KAMIS api 요청 한 번에 대응됨
+ * @author 연상훈
+ * @created 2026-10-18 오전 10:12
+ * @info 하루치 데이터 = 시장 24개 x 대분류 6개 = 144개의 unit
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuctionIngestUnit {
+
+  private static final DateTimeFormatter REGDAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+  private LocalDate date; // 조회 날짜
+  private String marketCode; // 시장 코드
+  private String marketName; // 시장 이름
+  private String categoryCode; // 대분류 코드
+  private String categoryName; // 대분류 이름
+
+  // api의 p_regday에 들어갈 형식(yyyy-MM-dd)
+  public String getRegday() {
+    return date.format(REGDAY_FORMATTER);
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.actionprice.auctionData.ingest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * (시장, 대분류)별로 마지막으로 수집이 끝난 날짜를 기록해두는 객체
+ * @author 연상훈
+ * @created 2026-10-18 오후 5:50
+ * @value marketCode : 시장 코드
+ * @value categoryCode : 대분류 코드
+ * @value lastIngestedDate : 수집이 끝난 마지막 날짜
+ * @value updatedAt : 마지막으로 갱신된 시각
+ * @info 스케줄러는 이 날짜 이후의 날짜만 수집함
+ * @info 여러 unit이 동시에 갱신하기 때문에 엔티티로 저장하지 않고 repository의 upsert로만 갱신함. 날짜는 앞으로만 움직임
+ */
+@Getter
+@Builder
+@Entity
+@Table(
+    name = "auction_ingest_watermark",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_auction_ingest_watermark_partition",
+        columnNames = {"market_code", "category_code"}
+    )
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AuctionIngestWatermark {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "market_code", nullable = false, length = 10)
+  private String marketCode;
+
+  @Column(name = "category_code", nullable = false, length = 10)
+  private String categoryCode;
+
+  @Column(name = "last_ingested_date", nullable = false)
+  private LocalDate lastIngestedDate;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
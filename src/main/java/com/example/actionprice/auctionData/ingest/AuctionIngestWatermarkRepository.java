@@ -0,0 +1,32 @@
+package com.example.actionprice.auctionData.ingest;
+
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * @author 연상훈
+ * @created 2026-10-18 오후 5:52
+ */
+public interface AuctionIngestWatermarkRepository extends JpaRepository<AuctionIngestWatermark, Long> {
+
+  // 없으면 만들고, 있으면 더 늦은 날짜일 때만 갱신함. 과거 날짜를 백필해도 워터마크가 뒤로 밀리지 않음
+  @Modifying
+  @Transactional
+  @Query(
+      value = "INSERT INTO auction_ingest_watermark (market_code, category_code, last_ingested_date, updated_at) "
+          + "VALUES (:marketCode, :categoryCode, :ingestedDate, NOW()) "
+          + "ON DUPLICATE KEY UPDATE "
+          + "updated_at = IF(VALUES(last_ingested_date) > last_ingested_date, NOW(), updated_at), "
+          + "last_ingested_date = GREATEST(last_ingested_date, VALUES(last_ingested_date))",
+      nativeQuery = true
+  )
+  int advance(@Param("marketCode") String marketCode, @Param("categoryCode") String categoryCode, @Param("ingestedDate") LocalDate ingestedDate);
+
+  // 어느 (시장, 대분류)든 가장 최근에 수집된 날짜. 워터마크가 하나도 없으면 null
+  @Query("SELECT MAX(w.lastIngestedDate) FROM AuctionIngestWatermark w")
+  LocalDate findLatestIngestedDate();
+}
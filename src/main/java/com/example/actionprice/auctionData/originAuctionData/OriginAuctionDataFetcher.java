@@ -2,25 +2,41 @@ package com.example.actionprice.auctionData.originAuctionData;
 
 
 import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
-import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDocument;
-import com.google.gson.*;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.PrematureCloseException;
 import reactor.netty.resources.ConnectionProvider;
-
-
+import reactor.util.retry.Retry;
+
+/**
+ * KAMIS api에서 경매 데이터를 가져오는 fetcher
+ * @author 연상훈
+ * @created 2024-10-25 오전 12:03
+ * @updated 2026-10-18 오후 4:30 : 타임아웃, 재시도, 요청 수 제한 추가. 설정값은 OriginAuctionFetchConfiguration 참고
+ * @info 기존에는 최대 연결 4000개에 타임아웃과 재시도가 없어서, 대량 수집 시 KAMIS를 몰아붙이거나 일시적인 오류에 그 날짜를 통째로 놓쳤음
+ * @info 모든 요청은 토큰 버킷을 통과해야 나갈 수 있고, 재시도도 마찬가지로 토큰을 새로 얻어야 함
+ */
 @Data
 @Component
 @Log4j2
@@ -33,21 +49,41 @@ public class OriginAuctionDataFetcher {
     String lastAuctionEncodedKey;
 
     private final WebClient webClient;
-    private final Gson gson;
-
-    public OriginAuctionDataFetcher() {
-        ConnectionProvider provider = ConnectionProvider.builder("custom")
-            .maxConnections(4000) // 최대 연결 수
-            .pendingAcquireMaxCount(2000) // 대기 큐 최대 수
+    private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Retry retrySpec;
+
+    public OriginAuctionDataFetcher(OriginAuctionFetchConfiguration fetchConfiguration) {
+        ConnectionProvider provider = ConnectionProvider.builder("kamis")
+            .maxConnections(fetchConfiguration.getMaxConnections()) // 호스트별 최대 연결 수
+            .pendingAcquireMaxCount(fetchConfiguration.getPendingAcquireMaxCount()) // 대기 큐 최대 수
+            .pendingAcquireTimeout(Duration.ofMillis(fetchConfiguration.getPendingAcquireTimeoutMillis()))
             .build();
 
-        HttpClient httpClient = HttpClient.create(provider);
+        HttpClient httpClient = HttpClient.create(provider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, fetchConfiguration.getConnectTimeoutMillis())
+            .responseTimeout(Duration.ofMillis(fetchConfiguration.getResponseTimeoutMillis()));
 
         this.webClient = WebClient.builder()
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .build();
 
-        this.gson = new Gson();
+        // KAMIS 응답에 우리가 쓰지 않는 필드가 있어도 실패하지 않도록 함
+        this.objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        this.rateLimiter = new TokenBucketRateLimiter(
+            fetchConfiguration.getRequestsPerSecond(),
+            fetchConfiguration.getBurstSize()
+        );
+
+        // 지수 백오프 + jitter. 재시도 횟수를 다 쓰면 마지막 에러를 그대로 던짐
+        this.retrySpec = Retry.backoff(fetchConfiguration.getMaxRetryAttempts(), Duration.ofMillis(fetchConfiguration.getMinBackoffMillis()))
+            .maxBackoff(Duration.ofMillis(fetchConfiguration.getMaxBackoffMillis()))
+            .jitter(fetchConfiguration.getJitterFactor())
+            .filter(this::isTransientError)
+            .doBeforeRetry(signal -> log.warn("[class] OriginAuctionDataFetcher - retry {} : {}", signal.totalRetries() + 1, signal.failure().toString()))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 
     public String getAuctionData_String(String countryCode, String regday, String category_code) throws Exception {
@@ -71,31 +107,81 @@ public class OriginAuctionDataFetcher {
      * @param category_code : 대분류 코드
      * @author 연상훈
      * @created 2024-10-25 오전 12:03
-     * @info
+     * @updated 2026-10-18 오후 3:45 : 응답 전체를 String으로 받아 두 번 파싱하던 것을 청크 단위 스트리밍 파싱으로 변경
+     * @info 본문을 DataBuffer 청크로 받아서 OriginAuctionDataStreamParser에 넣고, item 원소가 완성되는 대로 내보냄
+     * @info 데이터가 없는 날("data":["001"])은 item이 없으므로 빈 flux가 됨
+     * @info 본문 전체를 메모리에 올리지 않으니 WebClient의 기본 버퍼 제한(256KB)에도 걸리지 않음
      */
     public Flux<OriginAuctionDataRow> getAuctionData_Flux(String countryCode, String regday, String category_code) throws Exception {
         URI uri = composeUri(countryCode, regday, category_code);
 
-        return webClient.get()
-            .uri(uri)
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .bodyToMono(String.class)
-            .flatMapMany(str -> {
-                JsonElement jsonElement = JsonParser.parseString(str);
-                if (jsonElement.isJsonObject()) {
-                    JsonObject jsonObject = jsonElement.getAsJsonObject();
-                    JsonElement dataElement = jsonObject.get("data");
-                    if (dataElement.isJsonArray()) {
-                        JsonArray dataArray = dataElement.getAsJsonArray();
-                        if (dataArray.size() > 0 && dataArray.get(0).isJsonPrimitive() && dataArray.get(0).getAsString().equals("001")) {
-                            return Mono.empty();
-                        }
-                    }
+        return rateLimiter.acquire()
+            .thenMany(Flux.using(
+                () -> new OriginAuctionDataStreamParser(objectMapper), // 응답마다 새 파서
+                parser -> webClient.get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .concatMapIterable(parser::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(parser.endOfInput()))),
+                OriginAuctionDataStreamParser::close
+            ));
+    }
+
+    /**
+     * 메인데이터 추출(재시도 포함)
+     * @param countryCode : 지역 코드
+     * @param regday : 날짜
+     * @param category_code : 대분류 코드
+     * @author 연상훈
+     * @created 2026-10-18 오후 4:35
+     * @info 응답 하나를 통째로 List로 모은 다음에 재시도 단위로 삼음
+     * @info flux 중간에 끊긴 요청을 재시도하면 이미 내보낸 행이 한 번 더 나가기 때문
+     * @info 연결 실패, 타임아웃, 5xx, 429, 본문이 중간에 끊긴 경우만 재시도함. 4xx는 다시 보내도 같으니 바로 실패
+     * @updated 2026-10-19 오전 4:00 : json 파싱 에러(UncheckedIOException)는 재시도하지 않음. 같은 응답을 다시 받아도 또 실패하니 바로 dead letter로 보냄
+     */
+    public Mono<List<OriginAuctionDataRow>> getAuctionData_Rows(String countryCode, String regday, String category_code) {
+        return Mono.defer(() -> {
+                try {
+                    return getAuctionData_Flux(countryCode, regday, category_code).collectList();
+                } catch (Exception e) {
+                    return Mono.error(e);
+                }
+            })
+            .retryWhen(retrySpec);
+    }
+
+    /**
+     * 해당 날짜의 데이터가 공개되었는지 확인(재시도 포함)
+     * @param countryCode : 지역 코드
+     * @param regday : 날짜
+     * @param category_code : 대분류 코드
+     * @author 연상훈
+     * @created 2026-10-18 오후 5:55
+     * @info 첫 번째 item이 파싱되는 순간 요청을 끊기 때문에, 응답 전체를 받는 것보다 훨씬 가벼움
+     * @info 데이터가 없는 날("data":["001"])이면 false
+     */
+    public Mono<Boolean> hasAuctionData(String countryCode, String regday, String category_code) {
+        return Mono.defer(() -> {
+                try {
+                    return getAuctionData_Flux(countryCode, regday, category_code).hasElements();
+                } catch (Exception e) {
+                    return Mono.error(e);
                 }
-                OriginAuctionDocument document = gson.fromJson(str, OriginAuctionDocument.class);
-                return Flux.fromIterable(document.getData().getItem());
-            });
+            })
+            .retryWhen(retrySpec);
+    }
+
+    private boolean isTransientError(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 500 || status == 429;
+        }
+
+        return throwable instanceof WebClientRequestException // 연결 실패, 응답 타임아웃 등
+            || throwable instanceof TimeoutException
+            || throwable instanceof PrematureCloseException; // 본문을 받는 중에 연결이 끊긴 경우
     }
 
     private URI composeUri(String countryCode, String regday, String category_code) throws URISyntaxException {
@@ -0,0 +1,137 @@
+package com.example.actionprice.auctionData.originAuctionData;
+
+import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * KAMIS 응답을 청크(DataBuffer) 단위로 읽으면서 data.item 배열의 원소를 하나씩 꺼내는 파서
+ * @author 연상훈
+ * @created 2026-10-18 오후 3:30
+ * @info 응답 하나당 객체 하나를 만들어서 사용해야 함. 파싱 상태를 내부에 들고 있기 때문
+ * @info 기존에는 응답 전체를 String으로 받고, JsonElement 트리로 한 번, OriginAuctionDocument로 한 번 더 파싱했음
+ * @info jackson의 non-blocking 파서에 청크가 도착하는 대로 먹이고, item 원소 하나가 닫히는 순간 그 토큰들만 객체로 변환함
+ * @info 데이터가 없는 날은 "data":["001"] 형태로 오는데, 이 경우 item 배열 자체가 없으므로 아무것도 내보내지 않음
+ */
+public class OriginAuctionDataStreamParser implements AutoCloseable {
+
+  private final ObjectMapper objectMapper;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+
+  private TokenBuffer currentItem; // 현재 읽고 있는 item 원소의 토큰들. item 원소 밖이면 null
+  private int currentItemDepth;
+
+  public OriginAuctionDataStreamParser(ObjectMapper objectMapper) {
+    try {
+      this.objectMapper = objectMapper;
+      this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+      this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 도착한 청크를 파서에 넣고, 이 청크로 완성된 행들을 반환하는 메서드
+   * @param dataBuffer 응답 본문의 청크. 여기서 release 처리함
+   * @author 연상훈
+   * @created 2026-10-18 오후 3:35
+   */
+  public List<OriginAuctionDataRow> feed(DataBuffer dataBuffer) {
+    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+    dataBuffer.read(bytes);
+    DataBufferUtils.release(dataBuffer);
+
+    try {
+      feeder.feedInput(bytes, 0, bytes.length);
+      return readAvailableRows();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 응답이 끝났음을 파서에 알리고, 남아 있던 행들을 반환하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 3:35
+   */
+  public List<OriginAuctionDataRow> endOfInput() {
+    feeder.endOfInput();
+
+    try {
+      return readAvailableRows();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      parser.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<OriginAuctionDataRow> readAvailableRows() throws IOException {
+    List<OriginAuctionDataRow> rows = new ArrayList<>();
+    JsonToken token;
+
+    // NOT_AVAILABLE : 다음 청크가 와야 더 읽을 수 있음, null : 입력 끝
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+      if (currentItem != null) {
+        currentItem.copyCurrentEvent(parser);
+
+        if (token.isStructStart()) {
+          currentItemDepth++;
+        } else if (token.isStructEnd() && --currentItemDepth == 0) {
+          rows.add(objectMapper.readValue(currentItem.asParser(objectMapper), OriginAuctionDataRow.class));
+          currentItem = null;
+        }
+
+        continue;
+      }
+
+      if (token == JsonToken.START_OBJECT && isItemElement(parser.getParsingContext())) {
+        currentItem = new TokenBuffer(parser);
+        currentItem.copyCurrentEvent(parser);
+        currentItemDepth = 1;
+      }
+    }
+
+    return rows;
+  }
+
+  // 경로가 $.data.item[*] 인 객체인지 확인
+  private boolean isItemElement(JsonStreamContext objectContext) {
+    JsonStreamContext arrayContext = objectContext.getParent();
+    if (arrayContext == null || !arrayContext.inArray()) {
+      return false;
+    }
+
+    JsonStreamContext dataContext = arrayContext.getParent();
+    if (dataContext == null || !dataContext.inObject() || !"item".equals(dataContext.getCurrentName())) {
+      return false;
+    }
+
+    JsonStreamContext rootObjectContext = dataContext.getParent();
+    return rootObjectContext != null
+        && rootObjectContext.inObject()
+        && "data".equals(rootObjectContext.getCurrentName())
+        && rootObjectContext.getParent() != null
+        && rootObjectContext.getParent().inRoot();
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.actionprice.auctionData.originAuctionData;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * KAMIS api 요청 파이프라인의 설정값
+ * @author 연상훈
+ * @created 2026-10-18 오후 4:05
+ * @value maxConnections : KAMIS 호스트 하나에 동시에 열 수 있는 최대 연결 수(ConnectionProvider는 호스트별로 풀을 관리함)
+ * @value pendingAcquireMaxCount : 연결을 기다릴 수 있는 요청의 최대 수
+ * @value pendingAcquireTimeoutMillis : 연결을 기다리는 최대 시간
+ * @value connectTimeoutMillis : 연결 타임아웃
+ * @value responseTimeoutMillis : 응답 타임아웃
+ * @value maxRetryAttempts : 일시적인 오류일 때 재시도 횟수
+ * @value minBackoffMillis : 첫 재시도 전 대기 시간. 재시도마다 2배씩 늘어남
+ * @value maxBackoffMillis : 재시도 전 대기 시간의 상한
+ * @value jitterFactor : 대기 시간에 섞을 무작위 비율(0 ~ 1). 실패한 요청들이 동시에 재시도하는 것을 막음
+ * @value requestsPerSecond : 초당 보낼 수 있는 요청 수(토큰 버킷의 충전 속도)
+ * @value burstSize : 한 번에 몰아서 보낼 수 있는 요청 수(토큰 버킷의 크기)
+ * @info Pop3Configuration과 같은 방식. auction-data.fetch.xxx 로 설정 가능하고, 설정하지 않으면 아래의 기본값을 사용함
+ * @info 수집 설정(auction-data.ingest.xxx)과 같은 접두어를 씀. prefix는 kebab-case만 허용되어서 auctionData가 아니라 auction-data로 적음
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auction-data.fetch")
+@Getter
+@Setter
+public class OriginAuctionFetchConfiguration {
+
+  private int maxConnections = 32;
+  private int pendingAcquireMaxCount = 1000;
+  private long pendingAcquireTimeoutMillis = 60000;
+  private int connectTimeoutMillis = 5000;
+  private long responseTimeoutMillis = 20000;
+  private int maxRetryAttempts = 3;
+  private long minBackoffMillis = 500;
+  private long maxBackoffMillis = 10000;
+  private double jitterFactor = 0.5;
+  private double requestsPerSecond = 20;
+  private int burstSize = 20;
+}
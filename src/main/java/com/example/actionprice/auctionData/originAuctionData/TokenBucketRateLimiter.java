@@ -0,0 +1,56 @@
+package com.example.actionprice.auctionData.originAuctionData;
+
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 api로 나가는 요청 수를 제한하는 토큰 버킷
+ * @author 연상훈
+ * @created 2026-10-18 오후 4:15
+ * @info 토큰은 초당 permitsPerSecond개씩 충전되고, 최대 burstSize개까지 쌓임
+ * @info 토큰이 부족하면 음수로 빌려 쓰고(예약), 그 빚이 갚아질 때까지 기다린 후 진행함
+ * @info 그래서 스레드를 막지 않고 Mono.delay로만 대기함
+ */
+public class TokenBucketRateLimiter {
+
+  private final double permitsPerNano;
+  private final double capacity;
+
+  private double availableTokens;
+  private long lastRefillNanos;
+
+  public TokenBucketRateLimiter(double permitsPerSecond, int burstSize) {
+    if (permitsPerSecond <= 0 || burstSize <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond and burstSize must be positive");
+    }
+
+    this.permitsPerNano = permitsPerSecond / Duration.ofSeconds(1).toNanos();
+    this.capacity = burstSize;
+    this.availableTokens = burstSize;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰 하나를 얻을 때까지 기다리는 Mono
+   * @author 연상훈
+   * @created 2026-10-18 오후 4:15
+   * @info 구독하는 시점에 토큰을 예약함. 그래서 재시도할 때마다 새로 토큰을 얻게 됨
+   */
+  public Mono<Void> acquire() {
+    return Mono.defer(() -> {
+      long waitNanos = reserve();
+      return waitNanos <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+    });
+  }
+
+  // 토큰 하나를 예약하고, 그 토큰을 쓸 수 있을 때까지 기다려야 하는 시간을 반환
+  private synchronized long reserve() {
+    long now = System.nanoTime();
+    availableTokens = Math.min(capacity, availableTokens + (now - lastRefillNanos) * permitsPerNano);
+    lastRefillNanos = now;
+
+    availableTokens -= 1;
+
+    return availableTokens >= 0 ? 0 : (long) Math.ceil(-availableTokens / permitsPerNano);
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import java.time.LocalDate;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 경매 데이터 리포지토리들의 공통 조회 메서드
+ * @author 연상훈
+ * @created 2026-10-18 오후 7:00
+ * @info 6개의 대분류 리포지토리와 통합 테이블 리포지토리가 모두 이걸 상속함
+ * @updated 2026-10-18 오후 9:40 : count 쿼리 없이 페이지 내용만 조회하는 메서드와 count 메서드 추가
+ * @updated 2026-10-18 오후 9:10 : 커서(keyset) 방식의 거래내역 조회 추가
+ * @updated 2026-10-19 오전 12:40 : 거래내역 조회에 읽기 전용 힌트 추가. 조회한 엔티티의 스냅샷을 만들지 않고 dirty checking도 하지 않음
+ * @info 그래서 서비스에서는 대분류마다 switch를 쓰지 않고 AuctionRepositoryResolver로 리포지토리를 골라서 같은 메서드를 호출하면 됨
+ */
+@NoRepositoryBean
+public interface AuctionBaseRepository<T extends AuctionBaseEntity> extends JpaRepository<T, Long> {
+
+    // large,middle,small,rank 로 조건에 맞는 데이터 조회 후 날짜 및 페이지 받고 보여주기
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<T> findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(String large, String middle, String productName, String productRank, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    // 위의 Page 조회에서 count 쿼리를 뺀 것. 총 개수는 PageCountCache에 캐싱된 값을 씀
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<T> findContentByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(String large, String middle, String productName, String productRank, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    long countByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(String large, String middle, String productName, String productRank, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 커서 위치 다음의 거래내역을 날짜 역순으로 조회
+     * @info offset 대신 (delDate, delId) 조건으로 건너뛰기 때문에 몇 번째 페이지든 조회 비용이 같음
+     * @info Slice라서 count 쿼리 없이 pageable 크기 + 1개만 읽어서 다음 페이지 여부를 판단함
+     * @info pageable에는 정렬을 넣지 않음. 정렬은 커서 조건과 맞춰야 해서 쿼리에 고정해둠
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT e FROM #{#entityName} e"
+        + " WHERE e.large = :large AND e.middle = :middle AND e.productName = :productName AND e.productRank = :productRank"
+        + " AND e.delDate BETWEEN :startDate AND :endDate"
+        + " AND (e.delDate < :cursorDate OR (e.delDate = :cursorDate AND e.delId < :cursorId))"
+        + " ORDER BY e.delDate DESC, e.delId DESC")
+    Slice<T> findSliceAfterCursor(
+        @Param("large") String large,
+        @Param("middle") String middle,
+        @Param("productName") String productName,
+        @Param("productRank") String productRank,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+}
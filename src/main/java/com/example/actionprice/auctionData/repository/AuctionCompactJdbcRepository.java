@@ -0,0 +1,123 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 압축 테이블(auction_price_compact)에 여러 행씩 묶어서 저장하는 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 9:00
+ * @info 엔티티의 문자열 컬럼은 AuctionDictionaryRepository로 id로 바꾼 다음 저장함
+ * @info 자연키는 (날짜, 시장 id, 품목 id). 품목 id에 대분류 ~ 등급이 전부 들어 있음
+ */
+@Repository
+@Log4j2
+public class AuctionCompactJdbcRepository {
+
+  private static final int BATCH_SIZE = 500;
+  private static final int MIGRATION_CHUNK_SIZE = 50000;
+  private static final String TABLE_NAME = "auction_price_compact";
+  private static final String COLUMNS = "del_date, item_id, market_id, price";
+  private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AuctionDictionaryRepository auctionDictionaryRepository;
+
+  public AuctionCompactJdbcRepository(JdbcTemplate jdbcTemplate, AuctionDictionaryRepository auctionDictionaryRepository) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.auctionDictionaryRepository = auctionDictionaryRepository;
+  }
+
+  // 자연키가 이미 있으면 가격만 갱신. 처리한 행 수를 반환
+  public int upsertAll(List<? extends AuctionBaseEntity> entityList) {
+    executeInChunks("INSERT INTO %s (%s) VALUES %s ON DUPLICATE KEY UPDATE price = VALUES(price)", entityList);
+    return entityList.size();
+  }
+
+  // 자연키가 이미 있으면 건너뜀. 새로 저장된 행 수를 반환
+  public int insertIgnoreAll(List<? extends AuctionBaseEntity> entityList) {
+    return executeInChunks("INSERT IGNORE INTO %s (%s) VALUES %s", entityList);
+  }
+
+  /**
+   * 문자열 컬럼을 가진 경매 데이터 테이블의 데이터를 압축 테이블로 옮기는 메서드
+   * @param sourceTableName 대분류 테이블 또는 통합 테이블
+   * @return 새로 옮겨진 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:05
+   * @info 먼저 원본 테이블의 품목과 시장을 사전에 채운 다음, join으로 id를 찾아서 INSERT IGNORE ... SELECT로 옮김
+   * @info del_id 기준 MIGRATION_CHUNK_SIZE개씩 나눠서 옮기기 때문에 테이블을 오래 잠그지 않음. 여러 번 호출해도 안전함
+   */
+  public int copyFromTable(String sourceTableName) {
+    auctionDictionaryRepository.fillFromTable(sourceTableName);
+
+    Long maxId = jdbcTemplate.queryForObject(String.format("SELECT MAX(del_id) FROM %s", sourceTableName), Long.class);
+    if (maxId == null) {
+      return 0;
+    }
+
+    int copiedCount = 0;
+    for (long fromId = 0; fromId <= maxId; fromId += MIGRATION_CHUNK_SIZE) {
+      copiedCount += jdbcTemplate.update(
+          String.format(
+              "INSERT IGNORE INTO %s (%s)"
+                  + " SELECT t.del_date, c.del_id, m.market_id, t.price FROM %s t"
+                  + " JOIN auction_category c ON c.large = t.large AND c.middle = t.middle"
+                  + " AND c.product_name = t.product_name AND c.product_rank = COALESCE(t.product_rank, '')"
+                  + " JOIN auction_market m ON m.market_name = t.market_name"
+                  + " WHERE t.del_id > ? AND t.del_id <= ?",
+              TABLE_NAME,
+              COLUMNS,
+              sourceTableName
+          ),
+          fromId,
+          fromId + MIGRATION_CHUNK_SIZE
+      );
+    }
+
+    log.info("[class] AuctionCompactJdbcRepository - [method] copyFromTable - {} > {} | copied : {}", sourceTableName, TABLE_NAME, copiedCount);
+
+    return copiedCount;
+  }
+
+  public int applyItemKey() {
+    return auctionDictionaryRepository.applyItemKey();
+  }
+
+  private int executeInChunks(String sqlFormat, List<? extends AuctionBaseEntity> entityList) {
+    Map<String, Integer> itemIds = auctionDictionaryRepository.resolveItemIds(entityList);
+    Map<String, Short> marketIds = auctionDictionaryRepository.resolveMarketIds(entityList);
+
+    int affectedRows = 0;
+
+    for (int from = 0; from < entityList.size(); from += BATCH_SIZE) {
+      List<? extends AuctionBaseEntity> chunk = entityList.subList(from, Math.min(from + BATCH_SIZE, entityList.size()));
+
+      List<Object> params = new ArrayList<>(chunk.size() * 4);
+      for (AuctionBaseEntity entity : chunk) {
+        params.add(Date.valueOf(entity.getDelDate()));
+        params.add(itemIds.get(auctionDictionaryRepository.composeItemKey(entity)));
+        params.add(marketIds.get(entity.getMarket_name()));
+        params.add(entity.getPrice());
+      }
+
+      String sql = String.format(
+          sqlFormat,
+          TABLE_NAME,
+          COLUMNS,
+          String.join(", ", Collections.nCopies(chunk.size(), VALUES_PLACEHOLDER))
+      );
+
+      affectedRows += jdbcTemplate.update(sql, params.toArray());
+    }
+
+    return affectedRows;
+  }
+}
@@ -0,0 +1,253 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 품목(auction_category)과 시장(auction_market)의 문자열 <> id 변환을 담당하는 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:50
+ * @info 품목은 수백 개, 시장은 24개뿐이라 한 번 본 id는 메모리에 캐싱해두고, 처음 보는 것만 DB에 insert ignore한 다음 id를 다시 읽어옴
+ * @info 캐시는 추가만 되고 바뀌지 않음(id는 한 번 정해지면 그대로)
+ * @info 사전에 추가하고 id를 다시 읽는 것은 호출한 쪽의 트랜잭션과 분리해서 바로 커밋함
+ * @info 호출한 쪽이 롤백되면 캐시에 DB에 없는 id가 남고, 호출한 쪽의 스냅샷에서는 방금 추가한 행이 안 보일 수 있기 때문
+ * @updated 2026-10-19 오전 6:30 : 수집은 저장 트랜잭션을 열기 전에 여기를 먼저 호출함. 저장 트랜잭션 안에서 부르면 unit 하나가 연결 2개를 동시에 잡음
+ * @updated 2026-10-19 오전 6:30 : 등급이 없는 품목은 빈 문자열로 저장함. NULL은 unique 인덱스에서 충돌하지 않아서 같은 품목이 여러 번 들어갔음
+ */
+@Repository
+@Log4j2
+public class AuctionDictionaryRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate requiresNewTransaction;
+
+  private final Map<String, Integer> itemIdCache = new ConcurrentHashMap<>(); // key : composeItemKey
+  private final Map<String, Short> marketIdCache = new ConcurrentHashMap<>(); // key : 시장 이름
+  private final Object itemInsertLock = new Object(); // 같은 서버 안에서 품목 추가를 한 번에 하나씩만 함
+
+  public AuctionDictionaryRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+    this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 엔티티들의 품목 id를 반환하는 메서드
+   * @return key : composeItemKey, value : auction_category.del_id
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:52
+   * @info 없는 품목은 엔티티의 단위와 함께 auction_category에 추가함
+   * @updated 2026-10-18 오후 10:35 : 저장 방식과 상관없이 수집할 때마다 호출되어 품목 테이블을 채움
+   * @updated 2026-10-18 오후 10:35 : 캐시에 없으면 DB에서 먼저 읽어보고, 그래도 없는 것만 insert함
+   * @updated 2026-10-19 오전 6:30 : 읽고 insert하는 사이에 다른 스레드가 같은 품목을 넣을 수 있어서, 같은 서버 안에서는 락으로 한 줄로 세움
+   * @info 서버가 여러 대면 unique 인덱스(uk_auction_category_item)와 INSERT IGNORE가 중복을 막고, 다시 읽어서 먼저 들어간 id를 씀
+   * @info 캐시에 전부 있으면 락도 트랜잭션도 없이 바로 반환함. 그래서 수집 중에는 처음 보는 품목이 있을 때만 연결을 씀
+   */
+  public Map<String, Integer> resolveItemIds(Collection<? extends AuctionBaseEntity> entities) {
+    Map<String, AuctionBaseEntity> missingItems = new LinkedHashMap<>();
+    for (AuctionBaseEntity entity : entities) {
+      String itemKey = composeItemKey(entity);
+      if (!itemIdCache.containsKey(itemKey)) {
+        missingItems.putIfAbsent(itemKey, entity);
+      }
+    }
+
+    if (missingItems.isEmpty()) {
+      return itemIdCache;
+    }
+
+    synchronized (itemInsertLock) {
+      // 락을 기다리는 동안 다른 스레드가 이미 추가했을 수 있음
+      missingItems.keySet().removeIf(itemIdCache::containsKey);
+
+      if (!missingItems.isEmpty()) {
+        requiresNewTransaction.executeWithoutResult(status -> {
+          List<String> larges = missingItems.values().stream().map(AuctionBaseEntity::getLarge).distinct().toList();
+
+          // 서버를 다시 띄우면 캐시가 비어 있으니, DB에 이미 있는 품목은 insert하지 않도록 먼저 읽어옴
+          loadItemIds(larges);
+          missingItems.keySet().removeIf(itemIdCache::containsKey);
+
+          if (!missingItems.isEmpty()) {
+            insertMissingItems(missingItems.values());
+            loadItemIds(larges);
+          }
+        });
+      }
+    }
+
+    return itemIdCache;
+  }
+
+  /**
+   * 엔티티들의 시장 id를 반환하는 메서드
+   * @return key : 시장 이름, value : auction_market.market_id
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:52
+   */
+  public Map<String, Short> resolveMarketIds(Collection<? extends AuctionBaseEntity> entities) {
+    List<String> missingMarkets = entities.stream()
+        .map(AuctionBaseEntity::getMarket_name)
+        .filter(marketName -> !marketIdCache.containsKey(marketName))
+        .distinct()
+        .toList();
+
+    if (!missingMarkets.isEmpty()) {
+      requiresNewTransaction.executeWithoutResult(status -> {
+        jdbcTemplate.update(
+            "INSERT IGNORE INTO auction_market (market_name) VALUES "
+                + String.join(", ", Collections.nCopies(missingMarkets.size(), "(?)")),
+            missingMarkets.toArray()
+        );
+        loadMarketIds();
+      });
+    }
+
+    return marketIdCache;
+  }
+
+  /**
+   * 기존 테이블에 있는 모든 품목과 시장을 사전에 추가하는 메서드
+   * @param tableName 문자열 컬럼을 가진 경매 데이터 테이블
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:55
+   * @return 새로 추가된 품목 수
+   * @info 압축 테이블로 이관하기 전에 호출해서, 이관할 때 join으로 id를 찾을 수 있게 함
+   * @info 수집이 품목 테이블을 채우기 전에 쌓인 데이터의 품목을 한 번에 맞출 때도 사용함
+   * @updated 2026-10-19 오전 6:30 : 원본의 NULL 등급은 빈 문자열로 바꿔서 넣음. NULL로 넣으면 unique 인덱스에 걸리지 않아서 호출할 때마다 다시 들어갔음
+   */
+  public int fillFromTable(String tableName) {
+    int insertedCount = jdbcTemplate.update(String.format(
+        "INSERT IGNORE INTO auction_category (large, middle, product_name, product_rank, del_unit)"
+            + " SELECT large, middle, product_name, COALESCE(product_rank, ''), MAX(del_unit) FROM %s"
+            + " GROUP BY large, middle, product_name, COALESCE(product_rank, '')",
+        tableName
+    ));
+    jdbcTemplate.update(String.format(
+        "INSERT IGNORE INTO auction_market (market_name) SELECT DISTINCT market_name FROM %s WHERE market_name IS NOT NULL",
+        tableName
+    ));
+
+    return insertedCount;
+  }
+
+  /**
+   * 품목 테이블의 중복 행을 정리하고 unique 인덱스를 적용하는 메서드
+   * @return 삭제된 중복 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:57
+   * @info 품목 id가 곧 압축 테이블의 참조값이라 품목마다 한 행만 있어야 함. 가장 먼저 들어온(del_id가 가장 작은) 행을 남김
+   * @info 압축 테이블을 쓰기 전에 한 번만 호출하면 됨. 이미 인덱스가 있으면 중복 제거만 하고 끝남
+   * @updated 2026-10-19 오전 6:30 : NULL 등급과 빈 문자열 등급을 같은 품목으로 보고 합친 다음, 등급을 NOT NULL DEFAULT ''로 바꿈
+   * @updated 2026-10-19 오전 6:30 : 지워지는 품목을 가리키던 압축 테이블의 행은 남는 품목으로 옮김. 옮길 곳에 같은 자연키가 이미 있으면 지움
+   * @info 품목 id가 바뀌므로 캐시도 비움. 수집이 도는 중에는 호출하지 않아야 함
+   */
+  public int applyItemKey() {
+    // key : 지울 품목 id, value : 남길 품목 id
+    String duplicateItems =
+        "SELECT c1.del_id AS dup_id, MIN(c2.del_id) AS keep_id FROM auction_category c1 JOIN auction_category c2"
+            + " ON c1.large = c2.large"
+            + " AND c1.middle = c2.middle"
+            + " AND c1.product_name = c2.product_name"
+            + " AND COALESCE(c1.product_rank, '') = COALESCE(c2.product_rank, '')"
+            + " AND c1.del_id > c2.del_id"
+            + " GROUP BY c1.del_id";
+
+    jdbcTemplate.update(
+        "UPDATE IGNORE auction_price_compact p JOIN (" + duplicateItems + ") d ON p.item_id = d.dup_id SET p.item_id = d.keep_id"
+    );
+    jdbcTemplate.update(
+        "DELETE p FROM auction_price_compact p JOIN (" + duplicateItems + ") d ON p.item_id = d.dup_id"
+    );
+
+    int deletedCount = jdbcTemplate.update(
+        "DELETE c1 FROM auction_category c1 JOIN auction_category c2"
+            + " ON c1.large = c2.large"
+            + " AND c1.middle = c2.middle"
+            + " AND c1.product_name = c2.product_name"
+            + " AND COALESCE(c1.product_rank, '') = COALESCE(c2.product_rank, '')"
+            + " AND c1.del_id > c2.del_id"
+    );
+
+    jdbcTemplate.update("UPDATE auction_category SET product_rank = '' WHERE product_rank IS NULL");
+
+    Integer indexCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND table_name = 'auction_category' AND index_name = 'uk_auction_category_item'",
+        Integer.class
+    );
+
+    jdbcTemplate.execute(
+        "ALTER TABLE auction_category"
+            + " MODIFY large VARCHAR(20), MODIFY middle VARCHAR(50), MODIFY product_name VARCHAR(100),"
+            + " MODIFY product_rank VARCHAR(20) NOT NULL DEFAULT ''"
+            + (indexCount == null || indexCount == 0 ? ", ADD UNIQUE KEY uk_auction_category_item (large, middle, product_name, product_rank)" : "")
+    );
+
+    itemIdCache.clear();
+
+    log.info("[class] AuctionDictionaryRepository - [method] applyItemKey - deleted : {}", deletedCount);
+
+    return deletedCount;
+  }
+
+  public String composeItemKey(AuctionBaseEntity entity) {
+    return composeItemKey(entity.getLarge(), entity.getMiddle(), entity.getProductName(), entity.getProductRank());
+  }
+
+  // 예전 데이터의 NULL 등급은 빈 문자열과 같은 품목으로 봄
+  private String composeItemKey(String large, String middle, String productName, String productRank) {
+    return large + "|" + middle + "|" + productName + "|" + (productRank == null ? "" : productRank);
+  }
+
+  private void insertMissingItems(Collection<AuctionBaseEntity> items) {
+    Object[] params = items.stream()
+        .flatMap(item -> Stream.of(
+            item.getLarge(), item.getMiddle(), item.getProductName(), item.getProductRank(), item.getDel_unit()
+        ))
+        .toArray();
+
+    jdbcTemplate.update(
+        "INSERT IGNORE INTO auction_category (large, middle, product_name, product_rank, del_unit) VALUES "
+            + String.join(", ", Collections.nCopies(items.size(), "(?, ?, ?, ?, ?)")),
+        params
+    );
+  }
+
+  // 대분류 단위로 품목 id를 다시 읽어서 캐시에 채움. 같은 품목이 여러 행이면 applyItemKey처럼 가장 작은 id를 씀
+  private void loadItemIds(List<String> larges) {
+    jdbcTemplate.query(
+        "SELECT del_id, large, middle, product_name, product_rank FROM auction_category WHERE large IN ("
+            + String.join(", ", Collections.nCopies(larges.size(), "?")) + ")",
+        rs -> {
+          itemIdCache.merge(
+              composeItemKey(rs.getString("large"), rs.getString("middle"), rs.getString("product_name"), rs.getString("product_rank")),
+              rs.getInt("del_id"),
+              Math::min
+          );
+        },
+        larges.toArray()
+    );
+  }
+
+  private void loadMarketIds() {
+    jdbcTemplate.query(
+        "SELECT market_id, market_name FROM auction_market",
+        rs -> {
+          marketIdCache.put(rs.getString("market_name"), rs.getShort("market_id"));
+        }
+    );
+  }
+}
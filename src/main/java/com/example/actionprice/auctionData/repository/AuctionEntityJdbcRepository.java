@@ -0,0 +1,623 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import com.example.actionprice.auctionData.entity.AuctionEntity_ani;
+import com.example.actionprice.auctionData.entity.AuctionEntity_fish;
+import com.example.actionprice.auctionData.entity.AuctionEntity_foodCrops;
+import com.example.actionprice.auctionData.entity.AuctionEntity_fruit;
+import com.example.actionprice.auctionData.entity.AuctionEntity_specialCrop;
+import com.example.actionprice.auctionData.entity.AuctionEntity_vegetable;
+import com.example.actionprice.auctionData.entity.AuctionPriceEntity;
+import com.example.actionprice.exception.InvalidCategoryException;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 경매 데이터를 여러 행씩 묶어서 한 번에 저장하는 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 1:05
+ * @info AuctionBaseEntity의 id가 IDENTITY라서 hibernate는 insert를 배치로 묶지 못하고 행마다 한 번씩 DB를 왕복함
+ * @info 그래서 INSERT ... VALUES (...), (...), ... 형태의 다중 행 insert를 직접 구성해서 BATCH_SIZE개씩 한 번에 보냄
+ * @info 테이블 이름은 naming strategy에 따라 달라질 수 있으니 하드코딩하지 않고 hibernate 메타모델에서 가져옴
+ * @updated 2026-10-18 오후 2:20 : 자연키 기준 upsert로 변경. 같은 날짜를 다시 수집해도 중복 행이 생기지 않음
+ * @updated 2026-10-18 오후 7:20 : auctionData.storage.unified=true면 모든 대분류를 통합 테이블(auction_price)에 저장. 통합 테이블 파티셔닝과 이관 추가
+ * @updated 2026-10-18 오후 9:10 : unified > auctionData.storage.mode. NORMALIZED면 AuctionCompactJdbcRepository로 저장
+ * @updated 2026-10-19 오전 5:20 : mode가 없으면 예전 설정(auctionData.storage.unified)을 따름
+ */
+@Repository
+@Log4j2
+public class AuctionEntityJdbcRepository {
+
+  private static final int BATCH_SIZE = 500;
+  private static final String COLUMNS = "del_date, large, middle, product_name, product_rank, price, market_name, del_unit";
+  private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String NATURAL_KEY_COLUMNS = "del_date, market_name, large, middle, product_name, product_rank";
+  private static final int MIGRATION_CHUNK_SIZE = 50000;
+
+  // 통합 테이블의 파티션. key : 대분류 이름, value : 파티션 이름
+  private static final Map<String, String> PARTITION_NAME_MAP = Map.of(
+      "식량작물", "p_food_crops",
+      "채소류", "p_vegetable",
+      "특용작물", "p_special_crop",
+      "과일류", "p_fruit",
+      "축산물", "p_ani",
+      "수산물", "p_fish"
+  );
+
+  // key : 대분류 이름, value : 엔티티 클래스
+  private static final Map<String, Class<? extends AuctionBaseEntity>> ENTITY_CLASS_MAP = Map.of(
+      "식량작물", AuctionEntity_foodCrops.class,
+      "채소류", AuctionEntity_vegetable.class,
+      "특용작물", AuctionEntity_specialCrop.class,
+      "과일류", AuctionEntity_fruit.class,
+      "축산물", AuctionEntity_ani.class,
+      "수산물", AuctionEntity_fish.class
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<String, String> tableNameMap = new HashMap<>(); // key : 대분류 이름, value : 테이블 이름
+  private final String unifiedTableName;
+  private final AuctionCompactJdbcRepository auctionCompactJdbcRepository;
+  private final AuctionStorageMode storageMode;
+
+  public AuctionEntityJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      EntityManagerFactory entityManagerFactory,
+      AuctionCompactJdbcRepository auctionCompactJdbcRepository,
+      @Value("${auctionData.storage.mode:}") String storageMode,
+      @Value("${auctionData.storage.unified:false}") boolean legacyUnified
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.auctionCompactJdbcRepository = auctionCompactJdbcRepository;
+    this.storageMode = AuctionStorageMode.of(storageMode, legacyUnified);
+
+    MappingMetamodel metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getRuntimeMetamodels()
+        .getMappingMetamodel();
+
+    ENTITY_CLASS_MAP.forEach((category, entityClass) ->
+        tableNameMap.put(category, resolveTableName(metamodel, entityClass))
+    );
+    this.unifiedTableName = resolveTableName(metamodel, AuctionPriceEntity.class);
+  }
+
+  /**
+   * 대분류에 해당하는 테이블에 엔티티들을 다중 행 upsert로 저장하는 메서드
+   * @param category 대분류 이름
+   * @param entityList 저장할 엔티티 목록. id는 무시됨
+   * @return 처리한 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 1:12
+   * @updated 2026-10-18 오후 2:20 : insert > upsert
+   * @throws InvalidCategoryException 존재하지 않는 대분류
+   * @info 자연키(날짜, 시장, 대분류, 중분류, 상품명, 등급)가 이미 있으면 가격과 단위만 갱신함
+   * @info mysql의 affected rows는 insert면 1, update면 2로 세기 때문에 반환값으로 쓰지 않고 처리한 행 수를 반환함
+   */
+  public int upsertAll(String category, List<? extends AuctionBaseEntity> entityList) {
+    String tableName = getStorageTableName(category);
+
+    if (storageMode == AuctionStorageMode.NORMALIZED) {
+      return auctionCompactJdbcRepository.upsertAll(entityList);
+    }
+
+    executeInChunks(
+        "INSERT INTO %s (%s) VALUES %s ON DUPLICATE KEY UPDATE price = VALUES(price), del_unit = VALUES(del_unit)",
+        tableName,
+        entityList
+    );
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] upsertAll - table : {} | rows : {}", tableName, entityList.size());
+
+    return entityList.size();
+  }
+
+  /**
+   * 자연키가 이미 있는 행은 건드리지 않고, 없는 행만 저장하는 메서드
+   * @param category 대분류 이름
+   * @param entityList 저장할 엔티티 목록
+   * @return 실제로 새로 저장된 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 6:30
+   * @throws InvalidCategoryException 존재하지 않는 대분류
+   * @info 과거 가격(1일전, 1주일전 등)을 채워 넣을 때 사용함. 그 날짜를 직접 수집한 값이 있으면 그것이 우선임
+   * @info insert ignore의 affected rows는 새로 들어간 행 수와 같아서 그대로 반환함
+   */
+  public int insertIgnoreAll(String category, List<? extends AuctionBaseEntity> entityList) {
+    String tableName = getStorageTableName(category);
+
+    if (storageMode == AuctionStorageMode.NORMALIZED) {
+      return auctionCompactJdbcRepository.insertIgnoreAll(entityList);
+    }
+
+    int insertedCount = executeInChunks("INSERT IGNORE INTO %s (%s) VALUES %s", tableName, entityList);
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] insertIgnoreAll - table : {} | rows : {} | inserted : {}",
+        tableName, entityList.size(), insertedCount);
+
+    return insertedCount;
+  }
+
+  // BATCH_SIZE개씩 잘라서 다중 행 insert를 실행하고, affected rows의 합을 반환
+  private int executeInChunks(String sqlFormat, String tableName, List<? extends AuctionBaseEntity> entityList) {
+    int affectedRows = 0;
+
+    for (int from = 0; from < entityList.size(); from += BATCH_SIZE) {
+      List<? extends AuctionBaseEntity> chunk = entityList.subList(from, Math.min(from + BATCH_SIZE, entityList.size()));
+
+      String sql = String.format(
+          sqlFormat,
+          tableName,
+          COLUMNS,
+          String.join(", ", Collections.nCopies(chunk.size(), VALUES_PLACEHOLDER))
+      );
+
+      affectedRows += jdbcTemplate.update(sql, ps -> bindChunk(ps, chunk));
+    }
+
+    return affectedRows;
+  }
+
+  /**
+   * 자연키 unique 인덱스가 없던 시절에 쌓인 중복 행을 정리하고 인덱스를 생성하는 메서드
+   * @param category 대분류 이름
+   * @return 삭제된 중복 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 2:30
+   * @info 같은 자연키를 가진 행 중 가장 마지막에 저장된(del_id가 가장 큰) 행만 남김
+   * @info ddl-auto=update는 기존 컬럼의 길이와 NOT NULL을 바꾸지 않고, 중복이 있으면 unique 인덱스 생성에 조용히 실패함
+   * @info 그래서 기존 테이블은 여기서 등급 NULL 정리 > 컬럼 변경 > 중복 제거 > 인덱스 생성 순서로 직접 처리함
+   * @updated 2026-10-19 오전 3:30 : 등급이 NULL인 행을 ''로 바꾸고 NOT NULL DEFAULT ''로 변경. NULL끼리는 unique 인덱스에서 충돌하지 않아서 중복이 남았음
+   * @updated 2026-10-19 오전 3:30 : 중복 제거는 조회용 인덱스를 먼저 만든 다음 del_id 구간별로 나눠서 실행함. 인덱스 없이 테이블 전체를 self join하지 않음
+   * @info 트랜잭션 안에서 호출하지 않아야 함. DDL이 자동 커밋되고, 구간마다 바로 커밋되어야 중간에 실패해도 다시 호출하면 이어짐
+   */
+  public int applyNaturalKey(String category) {
+    return applyNaturalKey(getTableName(category), ENTITY_CLASS_MAP.get(category));
+  }
+
+  // 통합 테이블에 같은 처리를 하는 메서드. 통합 테이블도 이관 전에 쌓인 NULL 등급이 있을 수 있음
+  public int applyUnifiedNaturalKey() {
+    return applyNaturalKey(unifiedTableName, AuctionPriceEntity.class);
+  }
+
+  private int applyNaturalKey(String tableName, Class<? extends AuctionBaseEntity> entityClass) {
+    // 엔티티에 선언된 것과 같은 이름을 써야 hibernate가 같은 인덱스를 또 만들지 않음
+    String constraintName = entityClass
+        .getAnnotation(Table.class)
+        .uniqueConstraints()[0]
+        .name();
+
+    Long maxId = jdbcTemplate.queryForObject(String.format("SELECT MAX(del_id) FROM %s", tableName), Long.class);
+
+    int deletedCount = 0;
+    if (maxId != null) {
+      for (long fromId = 0; fromId <= maxId; fromId += MIGRATION_CHUNK_SIZE) {
+        // unique 인덱스가 이미 있으면 ''인 행과 겹치는 NULL 행은 바뀌지 않고 남음(IGNORE). 남은 행은 중복이므로 바로 지움
+        jdbcTemplate.update(
+            String.format("UPDATE IGNORE %s SET product_rank = '' WHERE product_rank IS NULL AND del_id > ? AND del_id <= ?", tableName),
+            fromId,
+            fromId + MIGRATION_CHUNK_SIZE
+        );
+        deletedCount += jdbcTemplate.update(
+            String.format("DELETE FROM %s WHERE product_rank IS NULL AND del_id > ? AND del_id <= ?", tableName),
+            fromId,
+            fromId + MIGRATION_CHUNK_SIZE
+        );
+      }
+    }
+
+    jdbcTemplate.execute(String.format(
+        "ALTER TABLE %s"
+            + " MODIFY large VARCHAR(20), MODIFY middle VARCHAR(50), MODIFY product_name VARCHAR(100),"
+            + " MODIFY product_rank VARCHAR(20) NOT NULL DEFAULT '', MODIFY market_name VARCHAR(20), MODIFY del_unit VARCHAR(20)",
+        tableName
+    ));
+
+    // 아래 self join이 (중분류, 상품명, 등급, 날짜, 시장)으로 짝을 찾을 수 있도록 조회용 인덱스를 먼저 만듦
+    createIndexIfAbsent(tableName, entityClass);
+
+    if (maxId != null) {
+      for (long fromId = 0; fromId <= maxId; fromId += MIGRATION_CHUNK_SIZE) {
+        deletedCount += jdbcTemplate.update(
+            String.format(
+                "DELETE t1 FROM %1$s t1 JOIN %1$s t2"
+                    + " ON t1.middle = t2.middle"
+                    + " AND t1.product_name = t2.product_name"
+                    + " AND t1.product_rank = t2.product_rank"
+                    + " AND t1.del_date = t2.del_date"
+                    + " AND t1.market_name = t2.market_name"
+                    + " AND t1.large = t2.large"
+                    + " AND t1.del_id < t2.del_id"
+                    + " WHERE t1.del_id > ? AND t1.del_id <= ?",
+                tableName
+            ),
+            fromId,
+            fromId + MIGRATION_CHUNK_SIZE
+        );
+      }
+    }
+
+    Integer indexCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND non_unique = 0 AND index_name <> 'PRIMARY'",
+        Integer.class,
+        tableName
+    );
+
+    if (indexCount == null || indexCount == 0) {
+      jdbcTemplate.execute(String.format("ALTER TABLE %s ADD UNIQUE KEY %s (%s)", tableName, constraintName, NATURAL_KEY_COLUMNS));
+    }
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] applyNaturalKey - table : {} | deleted : {}", tableName, deletedCount);
+
+    return deletedCount;
+  }
+
+  /**
+   * 조회용 복합 인덱스(중분류, 상품명, 등급, 날짜, 시장, 가격)를 만드는 메서드
+   * @return key : 테이블 이름, value : 이번에 새로 만들거나 이름, 컬럼을 바꿨으면 true
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:00
+   * @info 조회는 전부 (대분류, 중분류, 상품명, 등급)이 같고 날짜가 범위인 조건에 날짜 역순 정렬이라, 등호 컬럼 > 날짜 순서로 인덱스를 구성함
+   * @info 대분류는 테이블마다 하나뿐이라 대분류 테이블의 인덱스에는 넣지 않음. 통합 테이블은 large 조건을 빼지 못하므로 맨 앞에 넣음
+   * @info 뒤에 붙은 시장과 가격은 그래프 집계가 시장별 가격을 인덱스에서 바로 읽게 하기 위한 것
+   * @info 단, 인덱스에 없는 컬럼(대분류 등)을 조건에 쓰면 행마다 테이블을 다시 읽으므로 인덱스만으로 끝나지 않음
+   * @updated 2026-10-18 오후 10:20 : 품목 테이블(auction_category)의 드롭다운 조회용 인덱스도 함께 만듬
+   * @updated 2026-10-19 오전 6:00 : 품목 테이블의 조회용 인덱스는 만들지 않고, 남아 있으면 지움. unique 인덱스가 대신함
+   * @info ddl-auto=update면 hibernate가 알아서 만들지만, 그렇지 않은 환경을 위해 엔티티에 선언된 인덱스를 그대로 만듬
+   * @updated 2026-10-19 오전 5:00 : 인덱스 이름을 idx_* 규칙(snake_case)에 맞춤. 같은 컬럼의 인덱스가 예전 이름으로 있으면 이름만 바꾸고, 새 이름이 이미 있으면 예전 것을 지움
+   * @updated 2026-10-19 오전 5:00 : 같은 이름이어도 컬럼 구성이 엔티티 선언과 다르면 지우고 다시 만듬
+   */
+  public Map<String, Boolean> applyLookupIndex() {
+    Map<String, Boolean> createdMap = new HashMap<>();
+
+    ENTITY_CLASS_MAP.forEach((category, entityClass) ->
+        createdMap.put(getTableName(category), createIndexIfAbsent(getTableName(category), entityClass))
+    );
+    createdMap.put(unifiedTableName, createIndexIfAbsent(unifiedTableName, AuctionPriceEntity.class));
+    createdMap.put("auction_category", dropIndexIfPresent("auction_category", "idx_auction_category_lookup"));
+
+    return createdMap;
+  }
+
+  private boolean createIndexIfAbsent(String tableName, Class<?> entityClass) {
+    Index index = entityClass.getAnnotation(Table.class).indexes()[0];
+    String columns = index.columnList().replace(" ", "");
+
+    // key : 인덱스 이름, value : 컬럼 목록(쉼표로 구분, 인덱스 순서)
+    Map<String, String> indexColumnsMap = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT index_name, GROUP_CONCAT(column_name ORDER BY seq_in_index) AS columns FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND non_unique = 1 GROUP BY index_name",
+        (RowCallbackHandler) rs -> indexColumnsMap.put(rs.getString("index_name"), rs.getString("columns")),
+        tableName
+    );
+
+    String existingColumns = indexColumnsMap.remove(index.name());
+    boolean upToDate = columns.equalsIgnoreCase(existingColumns);
+
+    if (existingColumns != null && !upToDate) {
+      jdbcTemplate.execute(String.format("DROP INDEX %s ON %s", index.name(), tableName));
+    }
+
+    // 컬럼 구성은 같은데 이름만 다른 인덱스(예전 이름)
+    for (Map.Entry<String, String> entry : indexColumnsMap.entrySet()) {
+      if (!columns.equalsIgnoreCase(entry.getValue())) {
+        continue;
+      }
+
+      if (upToDate) {
+        jdbcTemplate.execute(String.format("DROP INDEX %s ON %s", entry.getKey(), tableName));
+      } else {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s RENAME INDEX %s TO %s", tableName, entry.getKey(), index.name()));
+        upToDate = true;
+      }
+
+      log.info("[class] AuctionEntityJdbcRepository - [method] createIndexIfAbsent - table : {} | legacy index : {}", tableName, entry.getKey());
+    }
+
+    if (upToDate) {
+      return existingColumns == null;
+    }
+
+    jdbcTemplate.execute(String.format("CREATE INDEX %s ON %s (%s)", index.name(), tableName, index.columnList()));
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] createIndexIfAbsent - table : {} | index : {}", tableName, index.name());
+
+    return true;
+  }
+
+  private boolean dropIndexIfPresent(String tableName, String indexName) {
+    Integer indexCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.statistics"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+        Integer.class,
+        tableName,
+        indexName
+    );
+
+    if (indexCount == null || indexCount == 0) {
+      return false;
+    }
+
+    jdbcTemplate.execute(String.format("DROP INDEX %s ON %s", indexName, tableName));
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] dropIndexIfPresent - table : {} | index : {}", tableName, indexName);
+
+    return true;
+  }
+
+  public Set<String> getCategories() {
+    return ENTITY_CLASS_MAP.keySet();
+  }
+
+  // 대분류별 테이블 이름
+  public String getTableName(String category) {
+    String tableName = tableNameMap.get(category);
+
+    if (tableName == null) {
+      throw new InvalidCategoryException("Invalid category: " + category);
+    }
+
+    return tableName;
+  }
+
+  // 실제로 읽고 쓰는 테이블 이름. 통합 테이블을 쓰면 대분류와 상관 없이 통합 테이블. 압축 테이블은 AuctionCompactJdbcRepository가 따로 다룸
+  public String getStorageTableName(String category) {
+    String tableName = getTableName(category);
+    return storageMode == AuctionStorageMode.UNIFIED ? unifiedTableName : tableName;
+  }
+
+  /**
+   * 대분류의 데이터를 읽을 수 있는 FROM 절의 테이블 식
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:10
+   * @info 압축 테이블은 AuctionPriceView와 같은 join을 derived table로 감싸서, 다른 저장 방식과 같은 컬럼 이름으로 읽을 수 있게 함
+   * @updated 2026-10-19 오전 2:20 : 엑셀 내보내기를 위해 단위(del_unit)도 같은 이름으로 읽을 수 있게 함
+   */
+  public String getSourceTableExpression(String category) {
+    String tableName = getStorageTableName(category);
+
+    if (storageMode == AuctionStorageMode.NORMALIZED) {
+      return "(SELECT p.del_date, c.large, c.middle, c.product_name, c.product_rank, c.del_unit, p.price, m.market_name"
+          + " FROM auction_price_compact p"
+          + " JOIN auction_category c ON c.del_id = p.item_id"
+          + " JOIN auction_market m ON m.market_id = p.market_id)";
+    }
+
+    return tableName;
+  }
+
+  /**
+   * 품목 하나의 가격을 구간별, 시장별로 mysql에서 집계하는 메서드
+   * @return 구간 x 시장마다 한 행(가격 합계, 개수)
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:50
+   * @info 원본 행을 엔티티로 전부 가져와서 날짜를 바꾸고 자바에서 평균 내던 것을 GROUP BY로 옮김. jdbc로 넘어오는 행 수가 그래프의 점 개수와 같아짐
+   * @info 조건과 읽는 컬럼(중분류, 상품명, 등급, 날짜, 시장, 가격)이 모두 조회용 인덱스에 있어서 테이블을 읽지 않고 인덱스만으로 끝남
+   * @updated 2026-10-19 오전 7:00 : 대분류 테이블에는 large 조건을 붙이지 않음. 테이블마다 대분류가 하나뿐이고, large가 인덱스에 없어서 조건이 있으면 행마다 테이블을 다시 읽었음
+   * @info 통합 테이블은 large가 조회용 인덱스의 첫 컬럼이라 조건이 있어도 인덱스만으로 끝남. 압축 테이블은 large를 품목 테이블에서 찾음
+   * @info 평균이 아니라 합계와 개수를 반환함. 기존 그래프처럼 정수 나눗셈으로 평균을 내기 위함
+   */
+  public List<AuctionChartBucket> findChartBuckets(
+      String category,
+      String middle,
+      String productName,
+      String productRank,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    String bucketExpression = interval.toSqlBucketExpression("t.del_date");
+    boolean splitTable = storageMode == AuctionStorageMode.SPLIT;
+
+    List<Object> params = new ArrayList<>();
+    if (!splitTable) {
+      params.add(category);
+    }
+    params.add(middle);
+    params.add(productName);
+    params.add(productRank);
+    params.add(Date.valueOf(startDate));
+    params.add(Date.valueOf(endDate));
+
+    return jdbcTemplate.query(
+        String.format(
+            "SELECT %s AS bucket_date, t.market_name, SUM(t.price) AS price_sum, COUNT(*) AS price_count"
+                + " FROM %s t"
+                + " WHERE %st.middle = ? AND t.product_name = ? AND t.product_rank = ?"
+                + " AND t.del_date BETWEEN ? AND ?"
+                + " GROUP BY %s, t.market_name",
+            bucketExpression,
+            getSourceTableExpression(category),
+            splitTable ? "" : "t.large = ? AND ",
+            bucketExpression
+        ),
+        (rs, rowNum) -> new AuctionChartBucket(
+            rs.getDate("bucket_date").toLocalDate(),
+            rs.getString("market_name"),
+            rs.getLong("price_sum"),
+            rs.getLong("price_count")
+        ),
+        params.toArray()
+    );
+  }
+
+  /**
+   * 품목 하나의 거래내역을 한 행씩 읽어서 rowHandler에 넘기는 메서드
+   * @param rowHandler 행마다 호출됨. 넘겨받은 엔티티는 영속성 컨텍스트와 상관 없는 새 객체
+   * @author 연상훈
+   * @created 2026-10-19 오전 2:20
+   * @info fetchSize를 Integer.MIN_VALUE로 주면 mysql 드라이버가 결과를 전부 받아두지 않고 서버에서 한 행씩 가져옴(스트리밍 결과셋)
+   * @info 엔티티를 리스트로 모으지도, 영속성 컨텍스트에 올리지도 않기 때문에 행이 몇 개든 메모리 사용량이 일정함
+   * @info 스트리밍이 끝날 때까지 커넥션을 다른 쿼리에 쓸 수 없음. rowHandler 안에서 DB를 조회하면 안 됨
+   * @info rowHandler가 느리면 그만큼 커넥션을 오래 잡고 있음. 그래서 rowHandler는 응답 스트림이 아니라 서버의 임시 파일에 씀(AuctionEntityServiceImpl)
+   */
+  public void streamTransactionHistory(
+      String category,
+      String middle,
+      String productName,
+      String productRank,
+      LocalDate startDate,
+      LocalDate endDate,
+      Consumer<AuctionBaseEntity> rowHandler
+  ) {
+    String sql = String.format(
+        "SELECT t.del_date, t.large, t.middle, t.product_name, t.product_rank, t.del_unit, t.price, t.market_name"
+            + " FROM %s t"
+            + " WHERE t.large = ? AND t.middle = ? AND t.product_name = ? AND t.product_rank = ?"
+            + " AND t.del_date BETWEEN ? AND ?"
+            + " ORDER BY t.del_date",
+        getSourceTableExpression(category)
+    );
+
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(Integer.MIN_VALUE);
+          ps.setString(1, category);
+          ps.setString(2, middle);
+          ps.setString(3, productName);
+          ps.setString(4, productRank);
+          ps.setDate(5, Date.valueOf(startDate));
+          ps.setDate(6, Date.valueOf(endDate));
+          return ps;
+        },
+        (RowCallbackHandler) rs -> rowHandler.accept(AuctionBaseEntity.builder()
+            .delDate(rs.getDate("del_date").toLocalDate())
+            .large(rs.getString("large"))
+            .middle(rs.getString("middle"))
+            .productName(rs.getString("product_name"))
+            .productRank(rs.getString("product_rank"))
+            .del_unit(rs.getString("del_unit"))
+            .price(rs.getInt("price"))
+            .market_name(rs.getString("market_name"))
+            .build())
+    );
+  }
+
+  public String getUnifiedTableName() {
+    return unifiedTableName;
+  }
+
+  /**
+   * 통합 테이블을 large 컬럼 기준으로 LIST COLUMNS 파티셔닝하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 7:25
+   * @info mysql은 파티션 키가 primary key와 모든 unique key에 포함되어야 함. 자연키에는 large가 이미 있으니 primary key만 (del_id, large)로 바꿈
+   * @info 대분류 아래에 날짜 기준 RANGE 서브 파티션을 두고 싶었지만 mysql의 서브 파티션은 HASH/KEY만 가능함
+   * @info 날짜 범위 조회는 파티션 안의 인덱스로 처리함
+   * @info 이미 파티셔닝되어 있으면 아무것도 하지 않으므로 여러 번 호출해도 안전함
+   */
+  public boolean applyUnifiedPartitioning() {
+    Integer partitionCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM information_schema.partitions"
+            + " WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+        Integer.class,
+        unifiedTableName
+    );
+
+    if (partitionCount != null && partitionCount > 0) {
+      return false;
+    }
+
+    String partitions = PARTITION_NAME_MAP.entrySet()
+        .stream()
+        .map(entry -> String.format("PARTITION %s VALUES IN ('%s')", entry.getValue(), entry.getKey()))
+        .collect(Collectors.joining(", "));
+
+    jdbcTemplate.execute(String.format(
+        "ALTER TABLE %s MODIFY large VARCHAR(20) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (del_id, large)",
+        unifiedTableName
+    ));
+    jdbcTemplate.execute(String.format(
+        "ALTER TABLE %s PARTITION BY LIST COLUMNS (large) (%s)",
+        unifiedTableName,
+        partitions
+    ));
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] applyUnifiedPartitioning - table : {}", unifiedTableName);
+
+    return true;
+  }
+
+  /**
+   * 대분류 테이블의 데이터를 통합 테이블로 옮기는 메서드
+   * @param category 대분류 이름
+   * @return 새로 옮겨진 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 7:30
+   * @info 테이블을 오래 잠그지 않도록 del_id 기준 MIGRATION_CHUNK_SIZE개씩 나눠서 INSERT IGNORE ... SELECT로 옮김
+   * @info 통합 테이블에 이미 있는 자연키는 건너뛰기 때문에 여러 번 호출해도 안전함
+   * @info 기존 테이블은 지우지 않음. 통합 테이블로 전환한 뒤에 다시 호출하면 그 사이에 기존 테이블에 들어온 행도 옮겨짐
+   */
+  public int copyToUnifiedTable(String category) {
+    String tableName = getTableName(category);
+
+    Long maxId = jdbcTemplate.queryForObject(String.format("SELECT MAX(del_id) FROM %s", tableName), Long.class);
+    if (maxId == null) {
+      return 0;
+    }
+
+    int copiedCount = 0;
+    for (long fromId = 0; fromId <= maxId; fromId += MIGRATION_CHUNK_SIZE) {
+      copiedCount += jdbcTemplate.update(
+          String.format(
+              "INSERT IGNORE INTO %s (%s) SELECT %s FROM %s WHERE del_id > ? AND del_id <= ?",
+              unifiedTableName,
+              COLUMNS,
+              COLUMNS,
+              tableName
+          ),
+          fromId,
+          fromId + MIGRATION_CHUNK_SIZE
+      );
+    }
+
+    log.info("[class] AuctionEntityJdbcRepository - [method] copyToUnifiedTable - {} > {} | copied : {}", tableName, unifiedTableName, copiedCount);
+
+    return copiedCount;
+  }
+
+  private void bindChunk(PreparedStatement ps, List<? extends AuctionBaseEntity> chunk) throws SQLException {
+    int index = 1;
+
+    for (AuctionBaseEntity entity : chunk) {
+      ps.setDate(index++, Date.valueOf(entity.getDelDate()));
+      ps.setString(index++, entity.getLarge());
+      ps.setString(index++, entity.getMiddle());
+      ps.setString(index++, entity.getProductName());
+      ps.setString(index++, entity.getProductRank());
+      ps.setInt(index++, entity.getPrice());
+      ps.setString(index++, entity.getMarket_name());
+      ps.setString(index++, entity.getDel_unit());
+    }
+  }
+
+  private String resolveTableName(MappingMetamodel metamodel, Class<?> entityClass) {
+    return ((AbstractEntityPersister) metamodel.getEntityDescriptor(entityClass)).getTableName();
+  }
+}
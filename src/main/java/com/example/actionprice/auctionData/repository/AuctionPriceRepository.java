@@ -0,0 +1,11 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionPriceEntity;
+
+/**
+ * 통합 테이블(auction_price) 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 7:08
+ */
+public interface AuctionPriceRepository extends AuctionBaseRepository<AuctionPriceEntity> {
+}
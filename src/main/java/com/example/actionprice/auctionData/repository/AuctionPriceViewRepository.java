@@ -0,0 +1,13 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionPriceView;
+
+/**
+ * 압축 테이블 조회용 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:47
+ * @info AuctionPriceView는 읽기 전용이라 save 계열 메서드는 쓰지 않음. 저장은 AuctionCompactJdbcRepository
+ */
+public interface AuctionPriceViewRepository extends AuctionBaseRepository<AuctionPriceView> {
+
+}
@@ -0,0 +1,73 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import com.example.actionprice.exception.InvalidCategoryException;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대분류에 맞는 경매 데이터 리포지토리를 골라주는 컴포넌트
+ * @author 연상훈
+ * @created 2026-10-18 오후 7:10
+ * @value storageMode : UNIFIED면 통합 테이블(auction_price), NORMALIZED면 압축 테이블의 view(AuctionPriceView) 리포지토리를 반환함
+ * @info 서비스의 메서드마다 있던 6갈래 switch를 여기 한 곳으로 모음
+ * @updated 2026-10-18 오후 8:25 : unified(boolean) > storageMode. NORMALIZED 추가
+ */
+@Component
+public class AuctionRepositoryResolver {
+
+  private final Map<String, AuctionBaseRepository<? extends AuctionBaseEntity>> repositoryMap; // key : 대분류 이름
+  private final AuctionPriceRepository auctionPriceRepository;
+  private final AuctionPriceViewRepository auctionPriceViewRepository;
+
+  @Getter
+  private final AuctionStorageMode storageMode;
+
+  public AuctionRepositoryResolver(
+      AniEntity_repo aniEntity_repo,
+      FishEntity_repo fishEntity_repo,
+      FoodCropsEntity_repo foodCropsEntity_repo,
+      FruitEntity_repo fruitEntity_repo,
+      SpecialCropsEntity_repo specialCropsEntity_repo,
+      VegetableEntity_repo vegetableEntity_repo,
+      AuctionPriceRepository auctionPriceRepository,
+      AuctionPriceViewRepository auctionPriceViewRepository,
+      @Value("${auctionData.storage.mode:}") String storageMode,
+      @Value("${auctionData.storage.unified:false}") boolean legacyUnified
+  ) {
+    this.repositoryMap = Map.of(
+        "축산물", aniEntity_repo,
+        "수산물", fishEntity_repo,
+        "식량작물", foodCropsEntity_repo,
+        "과일류", fruitEntity_repo,
+        "특용작물", specialCropsEntity_repo,
+        "채소류", vegetableEntity_repo
+    );
+    this.auctionPriceRepository = auctionPriceRepository;
+    this.auctionPriceViewRepository = auctionPriceViewRepository;
+    this.storageMode = AuctionStorageMode.of(storageMode, legacyUnified);
+  }
+
+  /**
+   * 대분류에 맞는 리포지토리를 반환하는 메서드
+   * @param large 대분류 이름
+   * @author 연상훈
+   * @created 2026-10-18 오후 7:10
+   * @throws InvalidCategoryException 존재하지 않는 대분류. 어떤 테이블을 쓰더라도 대분류 검사는 똑같이 함
+   */
+  public AuctionBaseRepository<? extends AuctionBaseEntity> resolve(String large) {
+    AuctionBaseRepository<? extends AuctionBaseEntity> repository = repositoryMap.get(large);
+
+    if (repository == null) {
+      throw new InvalidCategoryException("Invalid category: " + large);
+    }
+
+    return switch (storageMode) {
+      case SPLIT -> repository;
+      case UNIFIED -> auctionPriceRepository;
+      case NORMALIZED -> auctionPriceViewRepository;
+    };
+  }
+}
@@ -0,0 +1,146 @@
+package com.example.actionprice.auctionData.repository;
+
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 그래프용 집계 테이블(auction_price_rollup)을 채우고 읽는 리포지토리
+ * @author 연상훈
+ * @created 2026-10-18 오후 11:10
+ * @info 구간을 갱신할 때는 더하거나 빼지 않고, 원본 테이블에서 그 구간을 다시 집계해서 덮어씀
+ * @info 수집은 같은 자연키의 가격을 upsert로 바꿀 수 있어서, 증분으로 더하면 같은 날짜를 다시 수집할 때 값이 두 번 들어감
+ * @info 원본 테이블의 자연키가 날짜로 시작해서, 구간 하나를 다시 집계할 때는 그 기간의 행만 읽음
+ * @updated 2026-10-19 오전 8:40 : 다시 집계하기 전에 그 구간의 집계 행을 먼저 지움. upsert만 하면 원본 행이 모두 지워진 (구간, 품목, 시장)의 집계가 남아 있었음
+ */
+@Repository
+@Log4j2
+public class AuctionRollupJdbcRepository {
+
+  private static final String TABLE_NAME = "auction_price_rollup";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AuctionEntityJdbcRepository auctionEntityJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  public AuctionRollupJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      AuctionEntityJdbcRepository auctionEntityJdbcRepository,
+      PlatformTransactionManager transactionManager
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.auctionEntityJdbcRepository = auctionEntityJdbcRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 대분류의 [startDate, endDate] 기간에 해당하는 구간들을 원본 테이블에서 다시 집계하는 메서드
+   * @param startDate 구간의 첫 날이어야 함
+   * @param endDate 구간의 마지막 날이어야 함
+   * @return 지운 행 수 + affected rows
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:12
+   * @throws com.example.actionprice.exception.InvalidCategoryException 존재하지 않는 대분류
+   * @updated 2026-10-19 오전 8:40 : 기간 안의 집계 행을 지우고 다시 넣음. 한 트랜잭션이라 읽는 쪽은 지워진 상태를 보지 않음
+   */
+  public int refreshBuckets(String category, AuctionChartInterval interval, LocalDate startDate, LocalDate endDate) {
+    String sourceTableExpression = auctionEntityJdbcRepository.getSourceTableExpression(category);
+    Integer affectedRows = transactionTemplate.execute(status ->
+        deleteBuckets(category, interval, startDate, endDate) + insertBuckets(sourceTableExpression, category, interval, startDate, endDate)
+    );
+
+    log.debug(
+        "[class] AuctionRollupJdbcRepository - [method] refreshBuckets - category : {} | interval : {} | {} ~ {} | affected : {}",
+        category, interval, startDate, endDate, affectedRows
+    );
+
+    return affectedRows == null ? 0 : affectedRows;
+  }
+
+  private int deleteBuckets(String category, AuctionChartInterval interval, LocalDate startDate, LocalDate endDate) {
+    return jdbcTemplate.update(
+        String.format("DELETE FROM %s WHERE granularity = ? AND large = ? AND bucket_date BETWEEN ? AND ?", TABLE_NAME),
+        interval.name(),
+        category,
+        Date.valueOf(startDate),
+        Date.valueOf(endDate)
+    );
+  }
+
+  // 지운 다음에 넣으므로 키가 겹치지 않음
+  private int insertBuckets(
+      String sourceTableExpression,
+      String category,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    String bucketExpression = interval.toSqlBucketExpression("t.del_date");
+
+    return jdbcTemplate.update(
+        String.format(
+            "INSERT INTO %s"
+                + " (granularity, bucket_date, large, middle, product_name, product_rank, market_name, price_sum, price_count, price_min, price_max)"
+                + " SELECT ?, %s, t.large, t.middle, t.product_name, COALESCE(t.product_rank, ''), t.market_name,"
+                + " SUM(t.price), COUNT(*), MIN(t.price), MAX(t.price)"
+                + " FROM %s t"
+                + " WHERE t.large = ? AND t.del_date BETWEEN ? AND ?"
+                + " AND t.middle IS NOT NULL AND t.product_name IS NOT NULL AND t.market_name IS NOT NULL" // 집계 테이블은 NOT NULL
+                + " GROUP BY %s, t.large, t.middle, t.product_name, COALESCE(t.product_rank, ''), t.market_name",
+            TABLE_NAME,
+            bucketExpression,
+            sourceTableExpression,
+            bucketExpression
+        ),
+        interval.name(),
+        category,
+        Date.valueOf(startDate),
+        Date.valueOf(endDate)
+    );
+  }
+
+  /**
+   * 품목 하나의 구간별, 시장별 집계를 조회하는 메서드
+   * @param startDate, endDate 구간의 첫 날(bucket_date) 기준 범위
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:14
+   */
+  public List<AuctionChartBucket> findBuckets(
+      String large,
+      String middle,
+      String productName,
+      String productRank,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    return jdbcTemplate.query(
+        String.format(
+            "SELECT bucket_date, market_name, price_sum, price_count FROM %s"
+                + " WHERE large = ? AND middle = ? AND product_name = ? AND product_rank = ?"
+                + " AND granularity = ? AND bucket_date BETWEEN ? AND ?",
+            TABLE_NAME
+        ),
+        (rs, rowNum) -> new AuctionChartBucket(
+            rs.getDate("bucket_date").toLocalDate(),
+            rs.getString("market_name"),
+            rs.getLong("price_sum"),
+            rs.getLong("price_count")
+        ),
+        large,
+        middle,
+        productName,
+        productRank == null ? "" : productRank,
+        interval.name(),
+        Date.valueOf(startDate),
+        Date.valueOf(endDate)
+    );
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.actionprice.auctionData.repository;
+
+/**
+ * 경매 데이터를 어떤 테이블에 저장하고 읽을지
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:20
+ * @info auctionData.storage.mode로 설정. 기본값은 SPLIT
+ * @updated 2026-10-19 오전 5:20 : 예전 설정(auctionData.storage.unified=true)도 계속 읽음. mode가 없을 때만 사용됨
+ */
+public enum AuctionStorageMode {
+  SPLIT, // 대분류별 테이블 6개(auctionData_ani 등)
+  UNIFIED, // 대분류로 파티셔닝된 통합 테이블(auction_price)
+  NORMALIZED; // 문자열을 id로 바꿔서 저장하는 압축 테이블(auction_price_compact). 읽을 때는 auction_category, auction_market과 join
+
+  /**
+   * 설정값으로 저장 방식을 정하는 메서드
+   * @param mode auctionData.storage.mode. 비어 있으면 예전 설정을 따름
+   * @param legacyUnified auctionData.storage.unified. mode로 이름이 바뀌기 전의 설정
+   * @author 연상훈
+   * @created 2026-10-19 오전 5:20
+   */
+  public static AuctionStorageMode of(String mode, boolean legacyUnified) {
+    if (mode == null || mode.isBlank()) {
+      return legacyUnified ? UNIFIED : SPLIT;
+    }
+
+    return valueOf(mode.trim().toUpperCase());
+  }
+}
@@ -2,17 +2,46 @@ package com.example.actionprice.auctionData.repository;
 
 import com.example.actionprice.auctionData.entity.AuctionCategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
+/**
+ * @updated 2026-10-18 오후 10:20 : 엔티티 전체 대신 필요한 컬럼만 DISTINCT로 조회하는 메서드 추가
+ * @info DISTINCT 조회는 unique 인덱스(large, middle, product_name, product_rank)만 읽고 끝남
+ * @updated 2026-10-19 오전 6:00 : 더 이상 쓰지 않는 엔티티 조회 메서드(findByLarge 등) 삭제
+ */
 public interface CategoryEntityRepo extends JpaRepository<AuctionCategoryEntity,Long> {
 
-    // large 값으로 middle 조회
-    List<AuctionCategoryEntity> findByLarge(String large);
+    // large 값으로 중복 없는 middle 조회
+    @Query("SELECT DISTINCT c.middle FROM AuctionCategoryEntity c WHERE c.large = :large ORDER BY c.middle")
+    List<String> findDistinctMiddleByLarge(@Param("large") String large);
 
-    // large,middle 값으로 productName 조회
-    List<AuctionCategoryEntity> findByLargeAndMiddle(String large,String middle);
+    // large,middle 값으로 중복 없는 productName 조회
+    @Query("SELECT DISTINCT c.productName FROM AuctionCategoryEntity c WHERE c.large = :large AND c.middle = :middle ORDER BY c.productName")
+    List<String> findDistinctProductNameByLargeAndMiddle(@Param("large") String large, @Param("middle") String middle);
 
-    // large,middle,productName 값으로 productRank 조회
-    List<AuctionCategoryEntity> findByLargeAndMiddleAndProductName(String large,String middle,String productName);
+    // large,middle,productName 값으로 중복 없는 productRank 조회
+    @Query("SELECT DISTINCT c.productRank FROM AuctionCategoryEntity c"
+        + " WHERE c.large = :large AND c.middle = :middle AND c.productName = :productName AND c.productRank IS NOT NULL AND c.productRank <> ''"
+        + " ORDER BY c.productRank")
+    List<String> findDistinctProductRankByLargeAndMiddleAndProductName(
+        @Param("large") String large,
+        @Param("middle") String middle,
+        @Param("productName") String productName
+    );
 
+    // 품목 트리를 만들 때 쓰는 (대분류, 중분류, 상품명, 등급). 처음 들어온 순서대로 정렬
+    @Query("SELECT c.large AS large, c.middle AS middle, c.productName AS productName, c.productRank AS productRank"
+        + " FROM AuctionCategoryEntity c"
+        + " GROUP BY c.large, c.middle, c.productName, c.productRank"
+        + " ORDER BY MIN(c.delId)")
+    List<CategoryItemProjection> findAllItems();
+
+    interface CategoryItemProjection {
+        String getLarge();
+        String getMiddle();
+        String getProductName();
+        String getProductRank();
+    }
 }
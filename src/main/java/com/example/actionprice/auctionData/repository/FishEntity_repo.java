@@ -1,17 +1,8 @@
 package com.example.actionprice.auctionData.repository;
 
 import com.example.actionprice.auctionData.entity.AuctionEntity_fish;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import java.time.LocalDate;
-import java.util.List;
-
-public interface FishEntity_repo extends JpaRepository<AuctionEntity_fish, Long> {
-
-    Page<AuctionEntity_fish> findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(String large, String middle, String productName, String productRank, LocalDate startDate, LocalDate endDate , Pageable pageable);
-
-    List<AuctionEntity_fish> findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(String large, String middle, String productName, String productRank, LocalDate startDate, LocalDate endDate);
 
+// 조회 메서드는 AuctionBaseRepository에 있음
+public interface FishEntity_repo extends AuctionBaseRepository<AuctionEntity_fish> {
 
 }
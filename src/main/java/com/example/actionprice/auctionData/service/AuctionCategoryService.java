@@ -12,4 +12,7 @@ public interface AuctionCategoryService {
 
     // 대분류, 중분류, 소분류에 따른 품목 등급 조회
     CategoryDTO getProductRankCategory(String large, String middle, String small);
+
+    // 품목 목록의 버전. 품목이 추가될 때만 바뀜. 품목 목록을 아직 메모리에 읽지 못했으면 null
+    String getCategoryVersion();
 }
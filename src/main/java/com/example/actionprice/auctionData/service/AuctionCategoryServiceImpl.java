@@ -2,29 +2,36 @@ package com.example.actionprice.auctionData.service;
 
 import com.example.actionprice.auctionData.dto.CategoryItemDTO;
 import com.example.actionprice.auctionData.dto.CategoryDTO;
-import com.example.actionprice.auctionData.repository.*;
+import com.example.actionprice.auctionData.repository.CategoryEntityRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import java.util.*;
+import java.util.function.Supplier;
 
+/**
+ * @updated 2026-10-18 오후 10:05 : DB 대신 메모리의 AuctionCategoryTree에서 조회함
+ * @updated 2026-10-18 오후 10:20 : 트리에 없는 값은 DISTINCT 조회로 DB를 한 번 더 확인함. 트리가 갱신되기 전에 밖에서 추가된 품목을 위한 것
+ * @updated 2026-10-19 오전 6:00 : DB는 트리를 아예 읽지 못했을 때만 조회함. 트리에 없는 값은 실제로 없는 값이라, 잘못된 요청마다 DB를 조회하고 있었음
+ * @info 수집과 품목 동기화(syncCategoryTable)가 끝나면 트리가 다시 읽히므로, 트리에 없는 품목이 DB에만 있는 경우는 없음
+ */
 @RequiredArgsConstructor
 @Service
 @Log4j2
 public class AuctionCategoryServiceImpl implements AuctionCategoryService {
 
-    private final CategoryEntityRepo categoryEntity_repo;
+    private final AuctionCategoryTree auctionCategoryTree;
+    private final CategoryEntityRepo categoryEntityRepo;
 
     // 중분류 갖고오기
     @Override
     public CategoryDTO getMiddleCategory(String large) {
         log.info("[class] AuctionCategoryServiceImpl - [method] - getMiddleCategory - large : {}", large);
-        List<CategoryItemDTO> list = categoryEntity_repo.findByLarge(large)
-                .stream()
-                .map(entity -> new CategoryItemDTO(entity.getMiddle()))
-                .distinct()
-                .toList();
-        
+        List<CategoryItemDTO> list = convertToItemList(orFromDatabase(
+                auctionCategoryTree.getMiddles(large),
+                () -> categoryEntityRepo.findDistinctMiddleByLarge(large)
+        ));
+
         return CategoryDTO.builder()
                 .large(large)
                 .list(list)
@@ -35,13 +42,11 @@ public class AuctionCategoryServiceImpl implements AuctionCategoryService {
     @Override
     public CategoryDTO getSmallCategory(String large, String middle) {
         log.info("[class] AuctionCategoryServiceImpl - [method] - getMiddleCategory : large : {} | middle : {}", large, middle);
-        List<CategoryItemDTO> list = categoryEntity_repo.findByLargeAndMiddle(large, middle)
-                .stream()
-                .map(entity -> new CategoryItemDTO(entity.getProductName()))
-                .distinct()
-                .toList();
+        List<CategoryItemDTO> list = convertToItemList(orFromDatabase(
+                auctionCategoryTree.getProductNames(large, middle),
+                () -> categoryEntityRepo.findDistinctProductNameByLargeAndMiddle(large, middle)
+        ));
 
-        
         return CategoryDTO.builder()
                 .large(large)
                 .middle(middle)
@@ -53,12 +58,11 @@ public class AuctionCategoryServiceImpl implements AuctionCategoryService {
     @Override
     public CategoryDTO getProductRankCategory(String large, String middle, String small) {
         log.info("[class] AuctionCategoryServiceImpl - [method] - getMiddleCategory : large : {} | middle : {} | small : {}", large, middle, small);
-        List<CategoryItemDTO> list = categoryEntity_repo.findByLargeAndMiddleAndProductName(large, middle, small)
-                .stream()
-                .map(entity -> new CategoryItemDTO(entity.getProductRank()))
-                .distinct()
-                .toList();
-        
+        List<CategoryItemDTO> list = convertToItemList(orFromDatabase(
+                auctionCategoryTree.getProductRanks(large, middle, small),
+                () -> categoryEntityRepo.findDistinctProductRankByLargeAndMiddleAndProductName(large, middle, small)
+        ));
+
         return CategoryDTO.builder()
                 .large(large)
                 .middle(middle)
@@ -66,6 +70,30 @@ public class AuctionCategoryServiceImpl implements AuctionCategoryService {
                 .list(list)
                 .build();
     }
+
+    // 품목 목록의 버전. ETag로 사용됨. 트리를 읽지 못해서 DB에서 응답하는 동안은 버전이 없으므로 null
+    @Override
+    public String getCategoryVersion() {
+        String version = auctionCategoryTree.getVersion();
+        return auctionCategoryTree.isLoaded() ? version : null;
+    }
+
+    // 트리를 아예 읽지 못했으면 DB에서 조회
+    private List<String> orFromDatabase(List<String> treeList, Supplier<List<String>> databaseQuery) {
+        if (auctionCategoryTree.isLoaded()) {
+            return treeList;
+        }
+        return databaseQuery.get();
+    }
+
+    // CategoryItemDTO의 id가 이름의 hashCode라서 이름이 없는 값은 뺌
+    private List<CategoryItemDTO> convertToItemList(List<String> nameList) {
+        return nameList.stream()
+                .filter(Objects::nonNull)
+                .map(CategoryItemDTO::new)
+                .distinct()
+                .toList();
+    }
 }
 
 
@@ -0,0 +1,128 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.ingest.AuctionDataIngestedEvent;
+import com.example.actionprice.auctionData.repository.CategoryEntityRepo;
+import com.example.actionprice.auctionData.repository.CategoryEntityRepo.CategoryItemProjection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 품목 목록(대분류 > 중분류 > 상품명 > 등급)을 메모리에 트리로 들고 있는 컴포넌트
+ * @author 연상훈
+ * @created 2026-10-18 오후 10:00
+ * @info 품목 목록은 수집 중에 새 품목이 발견될 때만 바뀌는데, 드롭다운을 누를 때마다 DB에서 전체 행을 읽어서 distinct 하고 있었음
+ * @info 서버가 뜰 때 한 번 읽고, 수집이 끝날 때(AuctionDataIngestedEvent)마다 다시 읽어서 통째로 교체함. 몇백 행이라 다시 읽어도 부담이 없음
+ * @info 트리는 교체만 하고 수정하지 않기 때문에 읽는 쪽은 락 없이 그대로 써도 됨
+ * @updated 2026-10-18 오후 10:20 : 엔티티 전체 대신 (대분류, 중분류, 상품명, 등급) 컬럼만 읽음
+ * @updated 2026-10-19 오전 5:50 : 대분류, 중분류, 상품명이 NULL인 행은 트리에 넣지 않음. 등급은 NULL과 빈 문자열 모두 "등급 없음"으로 봄
+ * @info version은 트리 내용으로 만든 값이라, 내용이 같으면 서버를 다시 띄워도, 서버가 여러 대여도 같은 값이 나옴. ETag로 사용함
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class AuctionCategoryTree {
+
+  private final CategoryEntityRepo categoryEntityRepo;
+
+  private volatile Snapshot snapshot;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    refresh();
+  }
+
+  @EventListener
+  public void onAuctionDataIngested(AuctionDataIngestedEvent event) {
+    refresh();
+  }
+
+  /**
+   * DB에서 품목 목록을 다시 읽어서 트리를 교체하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 10:02
+   * @info 읽다가 실패하면 기존 트리를 그대로 씀
+   */
+  public void refresh() {
+    try {
+      List<CategoryItemProjection> categoryList = categoryEntityRepo.findAllItems();
+
+      Map<String, Map<String, Map<String, Set<String>>>> tree = new LinkedHashMap<>();
+      for (CategoryItemProjection category : categoryList) {
+        // 컬럼이 nullable이라 비어 있는 행이 있을 수 있음. List.copyOf는 null을 담지 못하니 트리에 넣지 않음
+        if (category.getLarge() == null || category.getMiddle() == null || category.getProductName() == null) {
+          continue;
+        }
+
+        Set<String> rankSet = tree
+            .computeIfAbsent(category.getLarge(), large -> new LinkedHashMap<>())
+            .computeIfAbsent(category.getMiddle(), middle -> new LinkedHashMap<>())
+            .computeIfAbsent(category.getProductName(), productName -> new LinkedHashSet<>());
+        // 등급이 없는 품목은 빈 문자열(예전 데이터는 NULL)로 저장되어 있음
+        if (category.getProductRank() != null && !category.getProductRank().isEmpty()) {
+          rankSet.add(category.getProductRank());
+        }
+      }
+
+      String version = "\"" + Integer.toHexString(tree.hashCode()) + "-" + categoryList.size() + "\"";
+      snapshot = new Snapshot(tree, version);
+
+      log.info("[class] AuctionCategoryTree - [method] refresh - rows : {} | version : {}", categoryList.size(), version);
+    } catch (Exception e) {
+      log.error("[class] AuctionCategoryTree - [method] refresh - error : {}", e.toString());
+    }
+  }
+
+  public boolean isLoaded() {
+    return snapshot != null;
+  }
+
+  public List<String> getMiddles(String large) {
+    return List.copyOf(getSnapshot().tree
+        .getOrDefault(large, Collections.emptyMap())
+        .keySet());
+  }
+
+  public List<String> getProductNames(String large, String middle) {
+    return List.copyOf(getSnapshot().tree
+        .getOrDefault(large, Collections.emptyMap())
+        .getOrDefault(middle, Collections.emptyMap())
+        .keySet());
+  }
+
+  public List<String> getProductRanks(String large, String middle, String productName) {
+    return List.copyOf(getSnapshot().tree
+        .getOrDefault(large, Collections.emptyMap())
+        .getOrDefault(middle, Collections.emptyMap())
+        .getOrDefault(productName, Collections.emptySet()));
+  }
+
+  // 트리 내용이 바뀔 때만 바뀌는 값. ETag 형식(큰따옴표 포함)
+  public String getVersion() {
+    return getSnapshot().version;
+  }
+
+  // 서버가 뜨기 전에 요청이 들어오는 경우에 대비해서, 아직 읽지 않았으면 여기서 읽음
+  private Snapshot getSnapshot() {
+    if (snapshot == null) {
+      synchronized (this) {
+        if (snapshot == null) {
+          refresh();
+        }
+      }
+    }
+    return snapshot != null ? snapshot : Snapshot.EMPTY;
+  }
+
+  private record Snapshot(Map<String, Map<String, Map<String, Set<String>>>> tree, String version) {
+    private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), "\"0-0\"");
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.dto.ChartDataDTO;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 그래프 데이터(ChartDataDTO)를 만드는 집계기
+ * @author 연상훈
+ * @created 2026-10-19 오전 12:10
+ * @info 날짜 축(구간의 첫 날들)을 기간으로 미리 정해두고, 날짜는 계산으로 배열 위치를 구함. 그래서 날짜를 키로 하는 맵과 정렬이 필요 없음
+ * @info 시장은 처음 나온 순서대로 int 번호를 붙이고, 시장마다 long 합계 배열과 int 개수 배열을 둠
+ * @info 그래서 값을 더할 때는 객체를 만들지 않고, 마지막에 응답용 맵을 만들 때만 할당함
+ * @info 요청 하나에서만 쓰는 객체라 스레드 안전하지 않음
+ */
+public class AuctionChartAggregator {
+
+  private final AuctionChartInterval interval;
+  private final LocalDate firstBucket; // 날짜 축의 첫 구간
+  private final long firstEpochDay;
+  private final int firstMonthIndex; // 연 * 12 + 월
+  private final int axisLength; // 날짜 축의 구간 수
+
+  private final Map<String, Integer> marketIndexMap = new HashMap<>();
+  private final List<String> marketNameList = new ArrayList<>();
+  private long[][] priceSums = new long[4][];
+  private int[][] priceCounts = new int[4][];
+
+  public AuctionChartAggregator(AuctionChartInterval interval, LocalDate startDate, LocalDate endDate) {
+    this.interval = interval;
+    this.firstBucket = interval.bucketStart(startDate);
+    this.firstEpochDay = firstBucket.toEpochDay();
+    this.firstMonthIndex = firstBucket.getYear() * 12 + firstBucket.getMonthValue();
+    this.axisLength = bucketIndex(endDate) + 1;
+  }
+
+  /**
+   * 가격을 더하는 메서드
+   * @param date 구간 안의 아무 날짜. 그 날짜가 속한 구간에 더함
+   * @param priceSum 가격 합계. 원본 행 하나면 가격 그대로
+   * @param priceCount 합계에 들어간 행 수. 원본 행 하나면 1
+   * @throws IllegalArgumentException 날짜가 기간을 벗어남
+   */
+  public void add(LocalDate date, String marketName, long priceSum, long priceCount) {
+    int dateIndex = bucketIndex(date);
+    if (dateIndex < 0 || dateIndex >= axisLength) {
+      throw new IllegalArgumentException("date(" + date + ") is out of the chart range");
+    }
+
+    int marketIndex = marketIndex(marketName);
+    priceSums[marketIndex][dateIndex] += priceSum;
+    priceCounts[marketIndex][dateIndex] += (int) priceCount;
+  }
+
+  public void addAll(List<AuctionChartBucket> bucketList) {
+    for (AuctionChartBucket bucket : bucketList) {
+      add(bucket.getBucketDate(), bucket.getMarketName(), bucket.getPriceSum(), bucket.getPriceCount());
+    }
+  }
+
+  /**
+   * 더한 값을 그래프 데이터로 만드는 메서드
+   * @info 데이터가 하나라도 있는 날짜만, 날짜 순서대로 [date : 날짜, 시장 이름 : 평균 가격] 형태의 맵으로 만듦
+   * @info 평균은 기존 그래프처럼 정수 나눗셈(소수점 이하 버림)
+   */
+  public ChartDataDTO toChartDataDTO() {
+    int marketCount = marketNameList.size();
+    List<Map<String, Object>> chartDataList = new ArrayList<>();
+
+    for (int dateIndex = 0; dateIndex < axisLength; dateIndex++) {
+      Map<String, Object> elementMap = null;
+
+      for (int marketIndex = 0; marketIndex < marketCount; marketIndex++) {
+        int priceCount = priceCounts[marketIndex][dateIndex];
+        if (priceCount == 0) {
+          continue;
+        }
+
+        if (elementMap == null) {
+          elementMap = new LinkedHashMap<>();
+          elementMap.put("date", bucketDate(dateIndex));
+        }
+        elementMap.put(marketNameList.get(marketIndex), (int) (priceSums[marketIndex][dateIndex] / priceCount));
+      }
+
+      if (elementMap != null) {
+        chartDataList.add(elementMap);
+      }
+    }
+
+    Set<String> countries = new HashSet<>(marketNameList);
+
+    return new ChartDataDTO(interval.getLabel(), chartDataList, countries);
+  }
+
+  private int marketIndex(String marketName) {
+    Integer marketIndex = marketIndexMap.get(marketName);
+    if (marketIndex != null) {
+      return marketIndex;
+    }
+
+    int newIndex = marketNameList.size();
+    if (newIndex == priceSums.length) {
+      priceSums = Arrays.copyOf(priceSums, newIndex * 2);
+      priceCounts = Arrays.copyOf(priceCounts, newIndex * 2);
+    }
+    priceSums[newIndex] = new long[axisLength];
+    priceCounts[newIndex] = new int[axisLength];
+
+    marketIndexMap.put(marketName, newIndex);
+    marketNameList.add(marketName);
+
+    return newIndex;
+  }
+
+  // 날짜 > 날짜 축의 위치. 첫 구간이 월요일(주간), 1일(월간)이라 날짜를 구간의 첫 날로 바꾸지 않고 바로 계산함
+  private int bucketIndex(LocalDate date) {
+    return switch (interval) {
+      case DAILY -> (int) (date.toEpochDay() - firstEpochDay);
+      case WEEKLY -> (int) Math.floorDiv(date.toEpochDay() - firstEpochDay, 7);
+      case MONTHLY -> date.getYear() * 12 + date.getMonthValue() - firstMonthIndex;
+    };
+  }
+
+  // 날짜 축의 위치 > 구간의 첫 날
+  private LocalDate bucketDate(int dateIndex) {
+    return switch (interval) {
+      case DAILY -> firstBucket.plusDays(dateIndex);
+      case WEEKLY -> firstBucket.plusWeeks(dateIndex);
+      case MONTHLY -> firstBucket.plusMonths(dateIndex);
+    };
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.dto.ChartDataDTO;
+import com.example.actionprice.auctionData.ingest.AuctionDataIngestedEvent;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그래프 데이터(ChartDataDTO)를 캐싱하는 컴포넌트
+ * @author 연상훈
+ * @created 2026-10-19 오전 1:00
+ * @value ttlSeconds : 캐싱된 그래프를 최대 몇 초까지 쓸지. 수집은 매 정각에 돌아서, 다른 서버가 수집한 결과도 다음 수집 전에 반영되도록 10분(600)으로 둠
+ * @value maxEntries : 최대 그래프 수. 넘으면 가장 오래 안 쓰인 것부터 버림
+ * @info 그래프는 수집이 끝날 때만 바뀌는데, 같은 품목과 기간을 보는 요청마다 다시 집계하고 있었음
+ * @info key는 (대분류, 중분류, 상품명, 등급, 구간, 시작일, 종료일)
+ * @info 수집이 끝나면(AuctionDataIngestedEvent) 저장된 대분류와 중분류가 같고, 기간 안에 저장된 날짜가 있는 그래프만 버림
+ * @info 무효화하는 동안 집계하고 있던 결과는 옛날 데이터일 수 있어서 캐싱하지 않음(generation 비교)
+ */
+@Component
+@Log4j2
+public class AuctionChartCache {
+
+  private final long ttlMillis;
+
+  // 접근 순서로 정렬되는 LinkedHashMap이라 get도 순서를 바꿈. 그래서 전부 chartMap 락 안에서 다룸
+  private final Map<ChartKey, CachedChart> chartMap;
+
+  // 무효화할 때마다 올라가는 값
+  private final AtomicLong generation = new AtomicLong();
+
+  public AuctionChartCache(
+      @Value("${auctionData.chartCache.ttlSeconds:600}") long ttlSeconds,
+      @Value("${auctionData.chartCache.maxEntries:1000}") int maxEntries
+  ) {
+    this.ttlMillis = ttlSeconds * 1000;
+    this.chartMap = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ChartKey, CachedChart> eldest) {
+        return size() > maxEntries;
+      }
+    });
+  }
+
+  /**
+   * 캐싱된 그래프를 반환하고, 없거나 만료되었으면 loader로 집계해서 캐싱하는 메서드
+   * @param loader 실제 집계
+   * @author 연상훈
+   * @created 2026-10-19 오전 1:02
+   */
+  public ChartDataDTO get(ChartKey key, Supplier<ChartDataDTO> loader) {
+    long now = System.currentTimeMillis();
+
+    CachedChart cachedChart = chartMap.get(key);
+    if (cachedChart != null && cachedChart.expiresAt > now) {
+      return cachedChart.chartData;
+    }
+
+    long loadedGeneration = generation.get();
+    ChartDataDTO chartData = loader.get();
+
+    synchronized (chartMap) {
+      if (generation.get() == loadedGeneration) {
+        chartMap.put(key, new CachedChart(chartData, now + ttlMillis));
+      }
+    }
+
+    return chartData;
+  }
+
+  /**
+   * 새로 수집된 품목과 기간이 겹치는 그래프를 버리는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 1:05
+   * @info 집계 테이블이 다시 집계된 다음에 버려야 옛날 집계가 다시 캐싱되지 않음. 그래서 AuctionRollupServiceImpl의 리스너가 먼저 실행됨
+   */
+  @EventListener
+  public void onAuctionDataIngested(AuctionDataIngestedEvent event) {
+    int evictedCount = evictIf(key -> key.isTouchedBy(event));
+
+    log.info("[class] AuctionChartCache - [method] onAuctionDataIngested - categories : {} | evicted : {}", event.getLarges(), evictedCount);
+  }
+
+  public void evictAll() {
+    synchronized (chartMap) {
+      generation.incrementAndGet();
+      chartMap.clear();
+    }
+  }
+
+  private int evictIf(Predicate<ChartKey> keyPredicate) {
+    synchronized (chartMap) {
+      generation.incrementAndGet();
+      int beforeSize = chartMap.size();
+      chartMap.keySet().removeIf(keyPredicate);
+      return beforeSize - chartMap.size();
+    }
+  }
+
+  public record ChartKey(
+      String large,
+      String middle,
+      String productName,
+      String productRank,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+
+    // 같은 대분류, 같은 중분류에 기간 안의 날짜가 저장되었으면 true
+    private boolean isTouchedBy(AuctionDataIngestedEvent event) {
+      Set<LocalDate> dateSet = event.getTouchedDates().get(large);
+      if (dateSet == null) {
+        return false;
+      }
+
+      Set<String> middleSet = event.getTouchedMiddles().get(large);
+      if (middleSet != null && !middleSet.contains(middle)) {
+        return false;
+      }
+
+      return dateSet.stream().anyMatch(date -> !date.isBefore(startDate) && !date.isAfter(endDate));
+    }
+  }
+
+  private record CachedChart(ChartDataDTO chartData, long expiresAt) {}
+}
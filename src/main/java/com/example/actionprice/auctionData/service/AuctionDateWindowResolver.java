@@ -0,0 +1,144 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.dto.AuctionDateWindow;
+import com.example.actionprice.auctionData.ingest.AuctionDataIngestedEvent;
+import com.example.actionprice.auctionData.ingest.AuctionIngestWatermarkRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청의 시작일, 종료일을 정규화하는 컴포넌트
+ * @author 연상훈
+ * @created 2026-10-19 오전 1:30
+ * @info 기존에는 컨트롤러의 메서드마다 LocalDate.now() 기준으로 날짜를 보정해서, 같은 기간을 보더라도 요청마다 기간이 조금씩 달랐음
+ * @info 그러면 count 캐시, 그래프 캐시의 key가 매번 달라져서 캐시가 거의 맞지 않음
+ * @info 그래서 종료일은 마지막으로 수집된 날짜를 넘지 않게 맞춤. 그 뒤로는 데이터가 없으니 결과는 같고, 기간은 수집이 있을 때만 바뀜
+ * @info 마지막으로 수집된 날짜는 서버가 뜰 때 워터마크에서 읽고, 수집이 끝날 때(AuctionDataIngestedEvent)마다 갱신함
+ * @updated 2026-10-19 오전 7:10 : 워터마크를 refreshSeconds마다 다시 읽음. 서버가 여러 대이거나 다른 경로로 수집하면 이벤트가 오지 않아서 날짜가 멈춰 있었음
+ * @value refreshSeconds : 워터마크를 다시 읽는 주기(초)
+ */
+@Component
+@Log4j2
+public class AuctionDateWindowResolver {
+
+  private final AuctionIngestWatermarkRepository watermarkRepository;
+  private final long refreshMillis;
+
+  private volatile LocalDate latestIngestedDate;
+  private volatile long nextLoadAt; // 워터마크를 다음에 다시 읽을 시각. 워터마크가 없을 때 요청마다 다시 읽지 않기 위함
+
+  public AuctionDateWindowResolver(
+      AuctionIngestWatermarkRepository watermarkRepository,
+      @Value("${auctionData.dateWindow.refreshSeconds:60}") long refreshSeconds
+  ) {
+    this.watermarkRepository = watermarkRepository;
+    this.refreshMillis = refreshSeconds * 1000;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    loadLatestIngestedDate();
+  }
+
+  @EventListener
+  public void onAuctionDataIngested(AuctionDataIngestedEvent event) {
+    event.getDates()
+        .stream()
+        .max(LocalDate::compareTo)
+        .ifPresent(this::advanceLatestIngestedDate);
+  }
+
+  /**
+   * 거래내역, 엑셀 조회용 기간을 만드는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 1:32
+   * @info 종료일 : 없거나, 1년보다 이전이거나, 마지막으로 수집된 날짜보다 이후면 마지막으로 수집된 날짜
+   * @info 시작일 : 없거나, 1년보다 이전이거나, 종료일보다 이후면 종료일
+   * @info 기존에는 시작일이 잘못되면 오늘로 바꿔서, 종료일이 오늘보다 이전이면 빈 결과가 나왔음
+   */
+  public AuctionDateWindow resolve(LocalDate startDate, LocalDate endDate) {
+    LocalDate today = LocalDate.now();
+    LocalDate oneYearAgo = getOneYearAgo(today);
+    LocalDate lastDate = getLatestIngestedDate(today);
+
+    if (endDate == null || endDate.isBefore(oneYearAgo) || endDate.isAfter(lastDate)) {
+      endDate = lastDate;
+    }
+    if (startDate == null || startDate.isBefore(oneYearAgo) || startDate.isAfter(endDate)) {
+      startDate = endDate;
+    }
+
+    return new AuctionDateWindow(startDate, endDate);
+  }
+
+  /**
+   * 그래프 조회용 기간을 만드는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 1:34
+   * @info resolve에 더해서 시작일을 구간(주간이면 월요일, 월간이면 1일)의 첫 날로 맞춤
+   * @info 그래서 첫 구간도 다른 구간처럼 한 주, 한 달 전체의 평균이 되고, 시작일만 며칠씩 다른 요청이 같은 그래프를 공유함
+   * @info 시작일을 당기면 기간이 길어져서 구간이 바뀔 수 있음(예 : 90일 주간 > 96일 월간). 그래서 구간이 바뀌지 않을 때까지 다시 맞춤
+   * @updated 2026-10-19 오전 7:10 : 당긴 시작일이 1년보다 이전이면 1년 전으로 되돌림. 이때는 첫 구간만 한 달 전체가 아닐 수 있음
+   */
+  public AuctionDateWindow resolveForChart(LocalDate startDate, LocalDate endDate) {
+    AuctionDateWindow window = resolve(startDate, endDate);
+    LocalDate alignedStartDate = window.getStartDate();
+
+    while (true) {
+      AuctionChartInterval interval = AuctionChartInterval.of((int) ChronoUnit.DAYS.between(alignedStartDate, window.getEndDate()));
+      LocalDate bucketStart = interval.bucketStart(alignedStartDate);
+      if (bucketStart.equals(alignedStartDate)) {
+        break;
+      }
+      alignedStartDate = bucketStart;
+    }
+
+    LocalDate oneYearAgo = getOneYearAgo(LocalDate.now());
+    if (alignedStartDate.isBefore(oneYearAgo)) {
+      alignedStartDate = oneYearAgo;
+    }
+
+    return new AuctionDateWindow(alignedStartDate, window.getEndDate());
+  }
+
+  private LocalDate getOneYearAgo(LocalDate today) {
+    return today.minusYears(1);
+  }
+
+  // 수집 기록이 없으면 기존처럼 오늘을 기준으로 함
+  private LocalDate getLatestIngestedDate(LocalDate today) {
+    if (System.currentTimeMillis() >= nextLoadAt) {
+      loadLatestIngestedDate();
+    }
+
+    LocalDate lastDate = latestIngestedDate;
+    return (lastDate == null || lastDate.isAfter(today)) ? today : lastDate;
+  }
+
+  // 실패해도 다음 주기까지는 다시 읽지 않음. 그 사이에는 마지막으로 읽은 날짜를 씀
+  private void loadLatestIngestedDate() {
+    nextLoadAt = System.currentTimeMillis() + refreshMillis;
+    try {
+      LocalDate loadedDate = watermarkRepository.findLatestIngestedDate();
+      if (loadedDate != null) {
+        advanceLatestIngestedDate(loadedDate);
+      }
+    } catch (Exception e) {
+      log.error("[class] AuctionDateWindowResolver - [method] loadLatestIngestedDate - error : {}", e.toString());
+    }
+  }
+
+  // 과거 날짜를 백필해도 뒤로 밀리지 않음
+  private synchronized void advanceLatestIngestedDate(LocalDate date) {
+    if (latestIngestedDate == null || date.isAfter(latestIngestedDate)) {
+      latestIngestedDate = date;
+      log.info("[class] AuctionDateWindowResolver - [method] advanceLatestIngestedDate - latestIngestedDate : {}", date);
+    }
+  }
+}
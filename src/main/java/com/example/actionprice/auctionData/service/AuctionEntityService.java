@@ -4,8 +4,12 @@ import com.example.actionprice.auctionData.dto.CategoryResultDTO;
 import com.example.actionprice.auctionData.dto.ChartDataDTO;
 import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
 import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface AuctionEntityService {
   AuctionBaseEntity saveEntityByCategory(
@@ -15,6 +19,32 @@ public interface AuctionEntityService {
       String category
   );
 
+  int saveAllByCategory(
+      List<OriginAuctionDataRow> rowList,
+      String date,
+      String marketName,
+      String category
+  );
+
+  int saveHistoryByCategory(
+      List<OriginAuctionDataRow> rowList,
+      String date,
+      String marketName,
+      String category
+  );
+
+  Set<LocalDate> resolveHistoryDates(List<OriginAuctionDataRow> rowList, String date);
+
+  Map<String, Integer> applyNaturalKey();
+
+  Map<String, Boolean> applyLookupIndex();
+
+  Map<String, Integer> migrateToUnifiedTable();
+
+  Map<String, Integer> migrateToNormalizedTable();
+
+  Map<String, Integer> syncCategoryTable();
+
   CategoryResultDTO getCategoryAndPage(
       String large,
       String middle,
@@ -25,16 +55,46 @@ public interface AuctionEntityService {
       Integer pageNum
   );
 
-  List<AuctionBaseEntity> fetchTransactionHistoryList(
+  CategoryResultDTO getCategoryAndSlice(
       String large,
       String middle,
       String small,
       String rank,
       LocalDate startDate,
-      LocalDate endDate
+      LocalDate endDate,
+      String cursor
   );
 
-  byte[] createExcelFile(List<AuctionBaseEntity> fetchTransactionHistoryList);
+  void exportExcelFile(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      OutputStream outputStream
+  ) throws IOException;
+
+  void exportCsvFile(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      boolean gzip,
+      OutputStream outputStream
+  ) throws IOException;
+
+  void exportColumnarFile(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      OutputStream outputStream
+  ) throws IOException;
 
   ChartDataDTO getChartData(
       String large,
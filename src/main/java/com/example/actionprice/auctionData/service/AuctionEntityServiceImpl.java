@@ -1,67 +1,94 @@
 package com.example.actionprice.auctionData.service;
 
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.dto.AuctionPageCursor;
 import com.example.actionprice.auctionData.dto.CategoryResultDTO;
 import com.example.actionprice.auctionData.dto.ChartDataDTO;
-import com.example.actionprice.auctionData.dto.ChartDataElement;
 import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
-import com.example.actionprice.auctionData.entity.AuctionEntity_ani;
-import com.example.actionprice.auctionData.entity.AuctionEntity_fish;
-import com.example.actionprice.auctionData.entity.AuctionEntity_foodCrops;
-import com.example.actionprice.auctionData.entity.AuctionEntity_fruit;
-import com.example.actionprice.auctionData.entity.AuctionEntity_vegetable;
-import com.example.actionprice.auctionData.entity.AuctionEntity_specialCrop;
-import com.example.actionprice.auctionData.repository.AniEntity_repo;
-import com.example.actionprice.auctionData.repository.FishEntity_repo;
-import com.example.actionprice.auctionData.repository.FoodCropsEntity_repo;
-import com.example.actionprice.auctionData.repository.FruitEntity_repo;
-import com.example.actionprice.auctionData.repository.VegetableEntity_repo;
-import com.example.actionprice.auctionData.repository.SpecialCropsEntity_repo;
+import com.example.actionprice.auctionData.export.AuctionColumnarWriter;
+import com.example.actionprice.auctionData.export.AuctionCsvWriter;
+import com.example.actionprice.auctionData.ingest.AuctionDataIngestedEvent;
+import com.example.actionprice.auctionData.repository.AuctionBaseRepository;
+import com.example.actionprice.auctionData.repository.AuctionCompactJdbcRepository;
+import com.example.actionprice.auctionData.repository.AuctionDictionaryRepository;
+import com.example.actionprice.auctionData.repository.AuctionEntityJdbcRepository;
+import com.example.actionprice.auctionData.repository.AuctionRepositoryResolver;
+import com.example.actionprice.auctionData.repository.AuctionStorageMode;
 import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
-import com.example.actionprice.exception.InvalidCategoryException;
-import java.io.ByteArrayOutputStream;
+import com.example.actionprice.cache.PageCountCache;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.time.DayOfWeek;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class AuctionEntityServiceImpl implements AuctionEntityService {
 
-  private final AniEntity_repo aniEntity_repo;
-  private final FishEntity_repo fishEntity_repo;
-  private final FoodCropsEntity_repo foodCropsEntity_repo;
-  private final FruitEntity_repo fruitEntity_repo;
-  private final VegetableEntity_repo vegetableEntity_repo;
-  private final SpecialCropsEntity_repo specialCropsEntity_repo;
+  private final AuctionRepositoryResolver auctionRepositoryResolver;
+  private final AuctionEntityJdbcRepository auctionEntityJdbcRepository;
+  private final AuctionCompactJdbcRepository auctionCompactJdbcRepository;
+  private final AuctionDictionaryRepository auctionDictionaryRepository;
+  private final AuctionCategoryTree auctionCategoryTree;
+  private final AuctionRollupService auctionRollupService;
+  private final PageCountCache pageCountCache;
+  private final AuctionChartCache auctionChartCache;
+  private final PlatformTransactionManager transactionManager;
+
+  private static final int ITEM_SIZE_PER_PAGE = 10;
+
+  // 엑셀을 만들 때 메모리에 들고 있을 최대 행 수
+  private static final int EXCEL_ROW_WINDOW = 100;
 
   private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+  // dayN 라벨 안의 "MM/DD"
+  private static final Pattern DAY_LABEL_PATTERN = Pattern.compile("(\\d{1,2})/(\\d{1,2})");
+
   /**
    * 그래프를 그리기 위한 데이터를 반환하는 메서드
    * @author 연상훈
    * @created 2024-11-09 오후 5:02
+   * @updated 2026-10-18 오후 11:35 : auctionData.rollup.enabled=true면 원본 행 대신 미리 집계해둔 구간별 가격을 읽음
+   * @updated 2026-10-18 오후 11:50 : 집계 테이블을 쓰지 않을 때도 원본 행을 엔티티로 가져오지 않고 mysql에서 GROUP BY로 집계함
+   * @updated 2026-10-19 오전 12:10 : 그래프 데이터는 AuctionChartAggregator로 만듦. 날짜별 맵을 만들고 정렬하지 않음
+   * @updated 2026-10-19 오전 12:40 : 읽기 전용 트랜잭션. 집계 테이블을 쓸 때 전체 구간과 양 끝 구간을 같은 스냅샷에서 읽음
+   * @updated 2026-10-19 오전 1:10 : AuctionChartCache에 있으면 집계하지 않고 바로 반환함. 트랜잭션은 캐시에 없어서 집계할 때만 시작함
+   * @info 구간을 나누는 기준(93일 이상 월간, 21일 이상 주간)과 평균을 내는 방식은 기존에 자바에서 날짜를 바꿔서 평균 내던 것과 같음
    */
   @Override
   public ChartDataDTO getChartData(String large,
@@ -71,31 +98,37 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
       LocalDate startDate,
       LocalDate endDate
   ) {
-    List<AuctionBaseEntity> transactionHistoryList = fetchTransactionHistoryList(large, middle, small, rank, startDate, endDate);
-    int daysBetween = (int)ChronoUnit.DAYS.between(startDate, endDate);
+    // 기간에 따라 일간/주간/월간 중 하나로 묶음
+    AuctionChartInterval interval = AuctionChartInterval.of((int)ChronoUnit.DAYS.between(startDate, endDate));
 
-    // 계산할 간격 기준을 결정하고, 그것에 맞춰서 리스트 내부의 날짜값들을 수정함
-    String timeIntervals = adjustDatesAndInterval(transactionHistoryList, daysBetween);
+    AuctionChartCache.ChartKey chartKey =
+        new AuctionChartCache.ChartKey(large, middle, small, rank, interval, startDate, endDate);
 
-    // 그래프 데이터로 사용하기에 적합한 형태로 리스트 내부의 데이터를 수정하여 반환
-    List<Map<String, Object>> chartDataList =
-        convertTransactionHistoryListToChartData(transactionHistoryList);
+    return auctionChartCache.get(chartKey, () -> {
+      TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+      readOnlyTransaction.setReadOnly(true);
 
-    // set을 사용하면 중복값은 알아서 거름
-    Set<String> countries = chartDataList.stream()
-        .flatMap(map -> map.keySet().stream())
-        .filter(key -> !key.equals("date"))
-        .collect(Collectors.toSet());
+      List<AuctionChartBucket> bucketList = readOnlyTransaction.execute(status -> auctionRollupService.isEnabled()
+          ? auctionRollupService.getChartBuckets(large, middle, small, rank, interval, startDate, endDate)
+          : auctionEntityJdbcRepository.findChartBuckets(large, middle, small, rank, interval, startDate, endDate));
 
-    return new ChartDataDTO(timeIntervals, chartDataList, countries);
+      AuctionChartAggregator aggregator = new AuctionChartAggregator(interval, startDate, endDate);
+      aggregator.addAll(bucketList);
+
+      return aggregator.toChartDataDTO();
+    });
   }
 
   /**
    * 거래내역을 페이지 형식으로 출력하는 메서드
    * @author 연상훈
    * @created 2024-11-09 오전 11:31
+   * @updated 2026-10-18 오후 7:15 : 대분류별 switch 대신 AuctionRepositoryResolver 사용
+   * @updated 2026-10-18 오후 9:40 : 총 개수는 PageCountCache에서 가져옴. 같은 조건의 두 번째 요청부터는 count 쿼리가 나가지 않음
+   * @updated 2026-10-19 오전 12:40 : 읽기 전용 트랜잭션. 세션을 flush하지 않고, 조회한 엔티티는 dirty checking 대상이 아님
    */
   @Override
+  @Transactional(readOnly = true)
   public CategoryResultDTO getCategoryAndPage(
       String large,
       String middle,
@@ -107,137 +140,174 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
   ) {
 
     // 페이징 및 정렬 조건 설정
-    Pageable pageable = PageRequest.of(pageNum, 10, Sort.by(Sort.Order.desc("delDate")));
-    Page<?> pageResult;
+    Pageable pageable = PageRequest.of(pageNum, ITEM_SIZE_PER_PAGE, Sort.by(Sort.Order.desc("delDate")));
 
     // 대분류에 따라 적절한 리포지토리 메서드 호출
-    switch (large) {
-      case "축산물":
-        pageResult = aniEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
+    AuctionBaseRepository<? extends AuctionBaseEntity> repository = auctionRepositoryResolver.resolve(large);
+    List<? extends AuctionBaseEntity> content = repository
+        .findContentByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
             large, middle, small, rank, startDate, endDate, pageable);
-        break;
 
-      case "수산물":
-        pageResult = fishEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large, middle, small, rank, startDate, endDate, pageable);
-        break;
+    // 첫 페이지가 꽉 차지 않으면 count 자체가 필요 없어서 counter가 호출되지 않음
+    String countKey = composeCountKey(large, middle, small, rank, startDate, endDate);
+    Page<? extends AuctionBaseEntity> pageResult = PageableExecutionUtils.getPage(content, pageable, () ->
+        pageCountCache.get(PageCountCache.AUCTION, countKey, () -> repository
+            .countByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
+                large, middle, small, rank, startDate, endDate))
+    );
 
-      case "식량작물":
-        pageResult = foodCropsEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large, middle, small, rank, startDate, endDate, pageable);
-        break;
+    // 마지막에 페이지네이션 시키면서 resultDTO로 변환. 자잘한 계산은 메서드 안에서 처리됨
+    return convertPageToDTO(pageResult);
+  }
 
-      case "과일류":
-        pageResult = fruitEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large, middle, small, rank, startDate, endDate, pageable);
-        break;
+  /**
+   * 거래내역을 커서 방식으로 출력하는 메서드
+   * @param cursor 이전 응답의 nextCursor. 비어 있으면 첫 페이지
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:12
+   * @info getCategoryAndPage와 달리 offset과 count 쿼리가 없어서 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됨
+   * @info 대신 총 데이터 수(listSize)와 총 페이지 수는 채우지 않음. 이번 페이지의 행 수는 currentPageSize
+   * @updated 2026-10-19 오전 12:40 : 읽기 전용 트랜잭션
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CategoryResultDTO getCategoryAndSlice(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      String cursor
+  ) {
+    AuctionPageCursor pageCursor = AuctionPageCursor.decode(cursor, endDate);
 
-      case "특용작물":
-        pageResult = specialCropsEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large, middle, small, rank, startDate, endDate, pageable);
-        break;
+    Slice<? extends AuctionBaseEntity> sliceResult = auctionRepositoryResolver.resolve(large)
+        .findSliceAfterCursor(
+            large, middle, small, rank, startDate, endDate,
+            pageCursor.getDelDate(), pageCursor.getDelId(),
+            PageRequest.of(0, ITEM_SIZE_PER_PAGE));
 
-      case "채소류":
-        pageResult = vegetableEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large, middle, small, rank, startDate, endDate, pageable);
-        break;
+    return convertSliceToDTO(sliceResult);
+  }
 
-      default:
-        throw new InvalidCategoryException("Invalid category: " + large);
-    }
+  /**
+   * 거래내역을 DB에서 한 행씩 읽으면서 바로 엑셀 파일로 쓰는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 2:20
+   * @info 엔티티 리스트를 다 만든 다음 쓰지 않음. DB > 엑셀 임시 파일 > outputStream으로 흘러가서 메모리 사용량이 일정함
+   * @info 행은 임시 파일에 먼저 쌓이고 outputStream에는 마지막에 한 번에 씀
+   * @info 이 메서드는 컨트롤러가 200과 헤더를 정한 다음에 실행되므로, 에러가 나도 에러 응답으로 바뀌지 않음. 컨트롤러에서 로그를 남기고 연결을 끊음
+   */
+  @Override
+  public void exportExcelFile(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      OutputStream outputStream
+  ) throws IOException {
+    writeExcel(outputStream, rowHandler ->
+        auctionEntityJdbcRepository.streamTransactionHistory(large, middle, small, rank, startDate, endDate, rowHandler)
+    );
+  }
 
-    // 마지막에 페이지네이션 시키면서 resultDTO로 변환. 자잘한 계산은 메서드 안에서 처리됨
-    return convertPageToDTO(pageResult);
+  /**
+   * 거래내역을 DB에서 한 행씩 읽으면서 바로 CSV로 쓰는 메서드
+   * @param gzip true면 gzip으로 압축해서 씀
+   * @author 연상훈
+   * @created 2026-10-19 오전 2:50
+   * @info 엑셀과 같은 조건, 같은 컬럼. POI를 거치지 않아서 CPU와 메모리를 훨씬 적게 씀
+   * @info finish(gzip trailer)는 모든 행을 쓴 다음에만 호출함. 잘린 gzip은 압축을 풀 때 에러가 남
+   * @updated 2026-10-19 오전 9:10 : 응답으로 바로 쓰지 않고 임시 파일에 다 쓴 다음 복사함(writeThroughTempFile)
+   */
+  @Override
+  public void exportCsvFile(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      LocalDate startDate,
+      LocalDate endDate,
+      boolean gzip,
+      OutputStream outputStream
+  ) throws IOException {
+    writeThroughTempFile(outputStream, fileOutputStream -> {
+      AuctionCsvWriter csvWriter = new AuctionCsvWriter(fileOutputStream, gzip);
+      auctionEntityJdbcRepository.streamTransactionHistory(large, middle, small, rank, startDate, endDate, csvWriter);
+      csvWriter.finish();
+    });
   }
 
   /**
-   * 엑셀파일을 위한 카테고리 리스트를 만드는 메서드
+   * 거래내역을 DB에서 한 행씩 읽으면서 열 단위 바이너리로 쓰는 메서드
    * @author 연상훈
-   * @created 2024-11-09 오전 11:30
-   * @info
+   * @created 2026-10-19 오전 2:50
+   * @info 형식은 AuctionColumnarWriter 참고. 같은 데이터의 CSV보다 몇 배 작고, 읽는 쪽에서 파싱할 것도 거의 없음
+   * @info CSV와 마찬가지로 finish(파일의 끝 표시)는 모든 행을 쓴 다음에만 호출함
+   * @updated 2026-10-19 오전 9:10 : CSV와 마찬가지로 임시 파일을 거쳐서 응답으로 복사함
    */
   @Override
-  public List<AuctionBaseEntity> fetchTransactionHistoryList(
+  public void exportColumnarFile(
       String large,
       String middle,
       String small,
       String rank,
       LocalDate startDate,
-      LocalDate endDate
-  ) {
+      LocalDate endDate,
+      OutputStream outputStream
+  ) throws IOException {
+    writeThroughTempFile(outputStream, fileOutputStream -> {
+      AuctionColumnarWriter columnarWriter = new AuctionColumnarWriter(fileOutputStream, large, middle, small, rank);
+      auctionEntityJdbcRepository.streamTransactionHistory(large, middle, small, rank, startDate, endDate, columnarWriter);
+      columnarWriter.finish();
+    });
+  }
 
-    switch (large) {
-      case "축산물":
-        return convertListObject(aniEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      case "수산물":
-        return convertListObject(fishEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      case "식량작물":
-        return convertListObject(foodCropsEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      case "과일류":
-        return convertListObject(fruitEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      case "특용작물":
-        return convertListObject(specialCropsEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      case "채소류":
-        return convertListObject(vegetableEntity_repo.findByLargeAndMiddleAndProductNameAndProductRankAndDelDateBetween(
-            large,
-            middle,
-            small,
-            rank,
-            startDate,
-            endDate)
-        );
-      default:
-        throw new InvalidCategoryException("Invalid category: " + large);
+  /**
+   * 내보낼 파일을 서버의 임시 파일에 다 쓴 다음 outputStream으로 복사하는 메서드
+   * @param body 임시 파일에 내용을 쓰는 쪽
+   * @author 연상훈
+   * @created 2026-10-19 오전 9:10
+   * @info streamTransactionHistory는 행을 다 넘길 때까지 DB 커넥션을 잡고 있음. 응답으로 바로 쓰면 느린 클라이언트만큼 커넥션을 오래 잡게 됨
+   * @info 임시 파일에 쓰면 커넥션은 DB와 디스크 속도만큼만 잡고, 클라이언트로 보내는 건 커넥션을 돌려준 다음에 함
+   * @info DB 조회 중에 에러가 나면 응답에는 아무것도 쓰지 않은 상태라서, 잘린 파일이 나가지 않음
+   */
+  private void writeThroughTempFile(OutputStream outputStream, ExportBody body) throws IOException {
+    Path tempFile = Files.createTempFile("auction-export-", ".tmp");
+
+    try {
+      try (OutputStream fileOutputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+        body.writeTo(fileOutputStream);
+      }
+      Files.copy(tempFile, outputStream);
+    } finally {
+      Files.deleteIfExists(tempFile);
     }
   }
 
+  // 임시 파일에 내용을 쓰는 쪽. 쓰다가 IOException이 날 수 있어서 Consumer 대신 씀
+  private interface ExportBody {
+    void writeTo(OutputStream outputStream) throws IOException;
+  }
+
   /**
-   * 엑셀 파일 생성 메서드
+   * 엑셀 파일을 outputStream에 쓰는 메서드
+   * @param rowSource 넘겨받은 rowHandler에 거래내역을 한 행씩 넘겨주는 쪽
    * @author 연상훈
-   * @created 2024-11-09 오전 11:30
+   * @created 2026-10-19 오전 2:00
+   * @info SXSSFWorkbook은 최근 EXCEL_ROW_WINDOW개의 행만 메모리에 두고, 나머지는 압축된 임시 파일로 내려보냄. 그래서 행이 몇 개든 메모리 사용량이 일정함
+   * @info 다 쓰고 나면 dispose로 임시 파일을 지움
    */
-  @Override
-  public byte[] createExcelFile(List<AuctionBaseEntity> transactionHistoryList) {
+  private void writeExcel(OutputStream outputStream, Consumer<Consumer<AuctionBaseEntity>> rowSource) throws IOException {
 
     // 엑셀 워크북 생성
-    try (Workbook workbook = new XSSFWorkbook();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+    workbook.setCompressTempFiles(true);
 
+    try {
       Sheet sheet = workbook.createSheet("TransactionHistory");
 
       // 헤더 생성
@@ -252,35 +322,34 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
       headerRow.createCell(7).setCellValue("가격");
 
       // 데이터 추가
-      int rowNum = 1;
-
-      if (transactionHistoryList == null || transactionHistoryList.isEmpty()) {
-        Row row = sheet.createRow(rowNum++);
+      int[] rowNum = {1};
+
+      rowSource.accept(entity -> {
+        Row row = sheet.createRow(rowNum[0]++);
+        row.createCell(0).setCellValue(entity.getDelDate().format(formatter));
+        row.createCell(1).setCellValue(entity.getMarket_name());
+        row.createCell(2).setCellValue(entity.getLarge());
+        row.createCell(3).setCellValue(entity.getMiddle());
+        row.createCell(4).setCellValue(entity.getProductRank());
+        row.createCell(5).setCellValue(entity.getProductName());
+        row.createCell(6).setCellValue(entity.getDel_unit());
+        row.createCell(7).setCellValue(entity.getPrice());
+      });
+
+      if (rowNum[0] == 1) {
+        Row row = sheet.createRow(rowNum[0]);
         row.createCell(0).setCellValue("검색하신 조건에 맞는 데이터가 없습니다.");
-      } else{
-        for (AuctionBaseEntity entity : transactionHistoryList) {
-          Row row = sheet.createRow(rowNum++);
-          row.createCell(0).setCellValue(entity.getDelDate().format(formatter));
-          row.createCell(1).setCellValue(entity.getMarket_name());
-          row.createCell(2).setCellValue(entity.getLarge());
-          row.createCell(3).setCellValue(entity.getMiddle());
-          row.createCell(4).setCellValue(entity.getProductRank());
-          row.createCell(5).setCellValue(entity.getProductName());
-          row.createCell(6).setCellValue(entity.getDel_unit());
-          row.createCell(7).setCellValue(entity.getPrice());
-        }
       }
 
       // 엑셀 파일 기록
       workbook.write(outputStream);
-      return outputStream.toByteArray(); // 엑셀 파일 바이트 배열 반환
-
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+    } finally {
+      workbook.dispose();
+      workbook.close();
     }
   }
 
-    /**
+  /**
    * 객체별로 저장하는 메서드
    * @param row
    * @param date : 날짜(String / 구분자 "-")
@@ -288,114 +357,250 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
    * @param category : 대분류 이름
    * @author 연상훈
    * @created 2024-10-25 오전 12:53
+   * @updated 2026-10-18 오후 2:40 : 자연키 기준 upsert로 변경. 반환되는 엔티티에는 id가 없음
    * @info
    */
   @Override
+  @Transactional
   public AuctionBaseEntity saveEntityByCategory(OriginAuctionDataRow row, String date, String marketName, String category) {
 
     log.info("[class] AuctionEntityServiceImpl - [method] saveEntityByCategory");
 
-    switch (category) {
-      case "식량작물":
-        return convertRowToFoodCrops_andSave(row, date, marketName, category);
-      case "채소류":
-        return convertRowToVegetable_andSave(row, date, marketName, category);
-      case "특용작물":
-        return convertSpecialCrops_andSave(row, date, marketName, category);
-      case "과일류":
-        return convertRowToFruit_andSave(row, date, marketName, category);
-      case "축산물":
-        return convertRowToAni_andSave(row, date, marketName, category);
-      case "수산물":
-        return convertRowToFish_andSave(row, date, marketName, category);
-      default:
-        return null;
+    AuctionBaseEntity entity = convertRowToEntity(row, convertStrToLocalDate(date), marketName, category);
+    auctionEntityJdbcRepository.upsertAll(category, List.of(entity));
+
+    return entity;
+  }
+
+  /**
+   * 한 번의 api 응답(시장 1곳, 대분류 1개)에 포함된 행들을 한 번에 저장하는 메서드
+   * @param rowList api 응답의 행 목록
+   * @param date : 날짜(String / 구분자 "-")
+   * @param marketName : 지역 이름
+   * @param category : 대분류 이름
+   * @return 저장된 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 1:20
+   * @updated 2026-10-18 오후 2:40 : 자연키 기준 upsert로 변경. 같은 날짜를 다시 수집해도 안전함
+   * @updated 2026-10-18 오후 10:35 : 저장하기 전에 처음 보는 품목을 품목 테이블에 추가함
+   * @info AuctionEntityJdbcRepository의 다중 행 upsert로 묶어서 저장함
+   * @info 가격이 "-" 등으로 비어 있는 행은 저장하지 않음
+   * @updated 2026-10-19 오전 6:30 : 품목 id는 저장 트랜잭션을 열기 전에 호출한 스레드에서 먼저 구함. 트랜잭션은 저장에만 씀
+   */
+  @Override
+  public int saveAllByCategory(List<OriginAuctionDataRow> rowList, String date, String marketName, String category) {
+    LocalDate delDate = convertStrToLocalDate(date);
+
+    List<AuctionBaseEntity> entityList = rowList.stream()
+        .filter(row -> isValidPrice(row.getDpr1()))
+        .map(row -> convertRowToEntity(row, delDate, marketName, category))
+        .toList();
+
+    if (entityList.size() < rowList.size()) {
+      log.info("[class] AuctionEntityServiceImpl - [method] saveAllByCategory - 가격이 없는 행 {}개 제외", rowList.size() - entityList.size());
     }
+
+    if (entityList.isEmpty()) {
+      return 0;
+    }
+
+    resolveDictionaryIds(entityList);
+
+    return new TransactionTemplate(transactionManager).execute(status -> auctionEntityJdbcRepository.upsertAll(category, entityList));
   }
 
   /**
-   * 계산할 간격 기준을 결정하고, 그것에 맞춰서 리스트 내부의 날짜값들을 수정함
+   * 한 번의 api 응답에 함께 들어 있는 과거 가격(1일전 ~ 1년전)을 각 날짜의 데이터로 저장하는 메서드
+   * @param rowList api 응답의 행 목록
+   * @param date : 조회 날짜(String / 구분자 "-")
+   * @param marketName : 지역 이름
+   * @param category : 대분류 이름
+   * @return 새로 저장된 행 수
    * @author 연상훈
-   * @created 2024-11-10 오후 6:23
-   * @info map.computeIfAbsent(key, method)는 키 값과 그 키 값이 없을 때에 동작할 메서드를 입력 받음
-   * @info 그리고 이미 존재하는 키 값이면 그에 해당하는 값을 반환하고, 그렇지 않으면 메서드를 실행함
-   * @info 이미 캐싱된 값을 반환하기 때문에 효율적임. 그래서 중복값이 많은 계산을 할 때 자주 쓰인다고 함.
-   * @info 최초의 값은 당연히
+   * @created 2026-10-18 오후 6:35
+   * @info 행마다 day2/dpr2(1일전), day3/dpr3(1주일전), day4/dpr4(2주일전), day5/dpr5(1개월전), day6/dpr6(1년전)을 펼쳐서 저장함
+   * @info day7/dpr7은 평년 가격이라 특정 날짜의 가격이 아니므로 저장하지 않음
+   * @info 날짜는 dayN 라벨의 "(MM/DD)"를 우선 사용하고, 라벨에 날짜가 없으면 조회 날짜에서 오프셋만큼 뺀 날짜를 사용함
+   * @info insert ignore로 저장하기 때문에, 그 날짜를 직접 수집한 값이나 이미 채워진 값은 덮어쓰지 않음
+   * @updated 2026-10-18 오후 10:35 : 저장하기 전에 처음 보는 품목을 품목 테이블에 추가함
+   * @updated 2026-10-19 오전 6:30 : 품목 id는 저장 트랜잭션을 열기 전에 먼저 구함
    */
-  private String adjustDatesAndInterval(List<AuctionBaseEntity> list, int daysBetween){
-    // 기간이 21일 이상이면
-    if(daysBetween >= 21){
-
-      // 날짜 데이터를 캐싱 해둘 맵
-      Map<LocalDate, LocalDate> dateCache = new HashMap<>();
-
-      if(daysBetween >= 93){
-        // 기간이 93일 이상이면
-        list.forEach(entity ->
-            entity.setDelDate(
-                dateCache.computeIfAbsent(
-                  entity.getDelDate(),
-                  date -> date.withDayOfMonth(1))
-            )
-        );
-        return "월간";
-      } else {
-        // 기간이 21~93일 사이면
-        list.forEach(entity ->
-            entity.setDelDate(
-                dateCache.computeIfAbsent(
-                  entity.getDelDate(),
-                  date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)))
-            )
-        );
-        return "주간";
-      }
+  @Override
+  public int saveHistoryByCategory(List<OriginAuctionDataRow> rowList, String date, String marketName, String category) {
+    List<AuctionBaseEntity> entityList = convertRowsToHistoryEntities(rowList, convertStrToLocalDate(date), marketName, category);
+
+    if (entityList.isEmpty()) {
+      return 0;
     }
 
-    // 기간이 21일 미만이면
-    return "일간";
+    resolveDictionaryIds(entityList);
+
+    return new TransactionTemplate(transactionManager).execute(status -> auctionEntityJdbcRepository.insertIgnoreAll(category, entityList));
+  }
+
+  /**
+   * 저장할 엔티티들의 품목 id(와 압축 테이블이면 시장 id)를 미리 구해두는 메서드
+   * @author 연상훈
+   * @created 2026-10-19 오전 6:30
+   * @info 사전에 없는 품목을 추가하는 것은 별도의 트랜잭션이라, 저장 트랜잭션 안에서 하면 unit 하나가 연결 2개를 동시에 잡음
+   * @info 수집은 unit 수십 개를 동시에 저장하므로 연결 풀(기본 10개)이 바닥날 수 있음. 그래서 저장 트랜잭션을 열기 전에 먼저 구함
+   * @info 구한 id는 사전의 캐시에 남아서, 압축 테이블에 저장할 때는 DB를 다시 보지 않음
+   */
+  private void resolveDictionaryIds(List<AuctionBaseEntity> entityList) {
+    auctionDictionaryRepository.resolveItemIds(entityList);
+
+    if (auctionRepositoryResolver.getStorageMode() == AuctionStorageMode.NORMALIZED) {
+      auctionDictionaryRepository.resolveMarketIds(entityList);
+    }
   }
 
   /**
-   * DB에서 나온 거래내역 데이터를 그래프에 사용하기에 적합하도록 날짜별/지역별로 합쳐주는 메서드(그래프 데이터에 사용)
+   * saveHistoryByCategory가 저장하게 될 과거 가격의 날짜들을 반환하는 메서드
+   * @param date : 조회 날짜(String / 구분자 "-")
    * @author 연상훈
-   * @created 2024-11-09 오후 4:16
-   * @info 그냥 List<Map<String, Object>> 형태가 그래프 만들기에 좋다고 해서 그거에 맞춰준 것뿐임.
-   * @info 최종적으로 List<Map<String,Obejct>> 형태로 구성해야 함
-   * @info 안에 들어가는 map은 Map<String, Object> map = Map.of("date", date, "country1", averagePrice1, ...); 형태로 구성해야 함
-   * @info Collectors.toMap()을 사용할 때, 키값이 중복되는 것이 들어오면 에러가 발생하면서 그 에러를 해결하기 위한 추가적인 로직을 실행하게 됨
-   * @info 그 추가적으로 실행하는 로직을 이용해서 중복값이 있으면 그것이 계속해서 누적되거나 병합되도록 구성함
+   * @created 2026-10-18 오후 11:20
+   * @info 수집이 끝난 뒤에 어느 날짜의 집계를 다시 해야 하는지 알기 위해 사용함
    */
-  private List<Map<String, Object>> convertTransactionHistoryListToChartData(List<AuctionBaseEntity> transactionHistoryList){
-    List<Map<String, Object>> dataList = transactionHistoryList.stream()
-        .collect(Collectors.groupingBy(
-            AuctionBaseEntity::getDelDate, // 그룹으로 묶을 기준
-            Collectors.toMap( // 그룹을 하나의 map으로 구성
-                AuctionBaseEntity::getMarket_name, // key
-                entity -> new ChartDataElement(entity.getPrice()), // value(ChartDataElement)
-                (existing, incoming) -> { // key 중복 시 발생할 에러의 해결 로직
-                  existing.stackData(incoming); // 값 누적
-                  return existing;
-                }
-            )
-        )) // 현 시점에서 객체 형태 Map<LocalDate, Map<String, ChartDataElement>>
-        .entrySet() // map의 특성을 이용한 중복값 거르기가 끝났으니, 리스트로 변환
+  @Override
+  public Set<LocalDate> resolveHistoryDates(List<OriginAuctionDataRow> rowList, String date) {
+    return convertRowsToHistoryEntities(rowList, convertStrToLocalDate(date), null, null)
         .stream()
-        .map(entry -> {
-          // 각 날짜별로 맵을 구성함
-          // entry[key : delDate, value = Map<marketName, chartDataElement>]
-          Map<String, Object> elementMap = new HashMap<>();
-          elementMap.put("date", entry.getKey()); // 날짜값 옮기기
-          entry.getValue() // = Map<marketName, chartDataElement>
-              .forEach((country, chartDataElement) -> // (key, value)
-                  elementMap.put(country, (chartDataElement.getPrice()/chartDataElement.getCount()))
-              ); // 그 외에는 [지역 이름 : 평균가격] 형태로 옮기기
-          return elementMap; // 그렇게 map 하나로 완성해서 리턴
-        })
-        .sorted(Comparator.comparing(map -> (LocalDate) map.get("date"))) // 정렬
-        .toList(); // List<Map<>>
-
-    return dataList;
+        .map(AuctionBaseEntity::getDelDate)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * 모든 대분류 테이블의 중복 행을 정리하고 자연키 unique 인덱스를 적용하는 메서드
+   * @return key : 대분류 이름, value : 삭제된 중복 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 2:50
+   * @info 자연키가 생기기 전에 같은 날짜를 여러 번 수집해서 쌓인 중복 행을 정리하기 위한 일회성 마이그레이션
+   * @updated 2026-10-19 오전 3:30 : 트랜잭션으로 묶지 않음. DDL은 mysql에서 자동 커밋되고, 중복 제거는 구간별로 나눠서 바로 커밋함
+   * @updated 2026-10-19 오전 3:30 : 통합 테이블도 함께 처리함. key : 통합 테이블 이름
+   * @updated 2026-10-19 오전 5:40 : 끝나면 경매 데이터의 총 개수 캐시를 비움
+   * @updated 2026-10-19 오전 8:50 : 그래프 캐시도 비움. 지운 중복 행이 들어간 평균이 TTL까지 남아 있었음
+   * @updated 2026-10-19 오전 8:40 : 지운 행이 있고 집계 테이블을 쓰고 있으면, 조회할 수 있는 기간(최근 1년)의 집계를 다시 만듦. 지운 중복 행이 집계에 그대로 남아 있었음
+   */
+  @Override
+  public Map<String, Integer> applyNaturalKey() {
+    Map<String, Integer> deletedCountMap = new HashMap<>();
+
+    for (String category : auctionEntityJdbcRepository.getCategories()) {
+      deletedCountMap.put(category, auctionEntityJdbcRepository.applyNaturalKey(category));
+    }
+    deletedCountMap.put(auctionEntityJdbcRepository.getUnifiedTableName(), auctionEntityJdbcRepository.applyUnifiedNaturalKey());
+
+    // 중복 행이 지워졌으니 캐싱된 총 개수가 실제보다 많음
+    pageCountCache.evictAll(PageCountCache.AUCTION);
+    auctionChartCache.evictAll();
+
+    int deletedTotal = deletedCountMap.values().stream().mapToInt(Integer::intValue).sum();
+    if (deletedTotal > 0 && auctionRollupService.isEnabled()) {
+      LocalDate today = LocalDate.now();
+      auctionRollupService.rebuild(today.minusYears(1), today);
+    }
+
+    return deletedCountMap;
+  }
+
+  /**
+   * 모든 경매 데이터 테이블에 조회용 복합 인덱스를 만드는 메서드
+   * @return key : 테이블 이름, value : 이번에 새로 만들었으면 true
+   * @author 연상훈
+   * @created 2026-10-18 오후 8:05
+   * @info 이미 있는 테이블은 건너뛰므로 여러 번 호출해도 안전함
+   * @updated 2026-10-19 오전 6:00 : 품목 테이블의 드롭다운 조회는 unique 인덱스를 쓰므로 그것부터 적용함
+   */
+  @Override
+  public Map<String, Boolean> applyLookupIndex() {
+    auctionCompactJdbcRepository.applyItemKey();
+
+    return auctionEntityJdbcRepository.applyLookupIndex();
+  }
+
+  /**
+   * 대분류 테이블의 데이터를 통합 테이블(auction_price)로 옮기는 메서드
+   * @return key : 대분류 이름, value : 새로 옮겨진 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 7:35
+   * @info 통합 테이블을 먼저 파티셔닝한 다음에 옮김. 데이터가 들어간 뒤에 파티셔닝하면 테이블 전체를 다시 써야 하기 때문
+   * @info 순서 : 이 메서드 호출 > auctionData.storage.mode=UNIFIED로 재시작 > 전환 사이에 들어온 행을 위해 한 번 더 호출
+   * @info 트랜잭션으로 묶지 않음. DDL은 어차피 자동 커밋되고, 대분류마다 따로 끝나야 중간에 실패해도 다시 호출하면 이어짐
+   * @info 옮긴 테이블에서 읽고 있으면 개수가 바뀌므로 총 개수 캐시와 그래프 캐시를 비움
+   */
+  @Override
+  public Map<String, Integer> migrateToUnifiedTable() {
+    auctionEntityJdbcRepository.applyUnifiedPartitioning();
+
+    Map<String, Integer> copiedCountMap = new HashMap<>();
+
+    for (String category : auctionEntityJdbcRepository.getCategories()) {
+      copiedCountMap.put(category, auctionEntityJdbcRepository.copyToUnifiedTable(category));
+    }
+
+    pageCountCache.evictAll(PageCountCache.AUCTION);
+    auctionChartCache.evictAll();
+
+    return copiedCountMap;
+  }
+
+  /**
+   * 대분류 테이블과 통합 테이블의 데이터를 압축 테이블(auction_price_compact)로 옮기는 메서드
+   * @return key : 원본 테이블 이름, value : 새로 옮겨진 행 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:15
+   * @info 품목 테이블의 중복을 먼저 정리해야 품목마다 id가 하나로 정해짐
+   * @info 압축 테이블은 행마다 단위를 저장하지 않음. 품목마다 단위 하나만 남으니, 행마다 단위가 다른 데이터는 옮긴 뒤 원래 단위를 잃음
+   * @info 순서 : 이 메서드 호출 > auctionData.storage.mode=NORMALIZED로 재시작 > 전환 사이에 들어온 행을 위해 한 번 더 호출
+   * @info 같은 자연키가 여러 테이블에 있으면 먼저 옮겨진 값이 남음. 대분류 테이블을 먼저, 통합 테이블을 나중에 옮김
+   * @info 옮긴 테이블에서 읽고 있으면 개수가 바뀌므로 총 개수 캐시와 그래프 캐시를 비움
+   */
+  @Override
+  public Map<String, Integer> migrateToNormalizedTable() {
+    auctionCompactJdbcRepository.applyItemKey();
+
+    Map<String, Integer> copiedCountMap = new LinkedHashMap<>();
+
+    for (String category : auctionEntityJdbcRepository.getCategories()) {
+      String tableName = auctionEntityJdbcRepository.getTableName(category);
+      copiedCountMap.put(tableName, auctionCompactJdbcRepository.copyFromTable(tableName));
+    }
+
+    String unifiedTableName = auctionEntityJdbcRepository.getUnifiedTableName();
+    copiedCountMap.put(unifiedTableName, auctionCompactJdbcRepository.copyFromTable(unifiedTableName));
+
+    pageCountCache.evictAll(PageCountCache.AUCTION);
+    auctionChartCache.evictAll();
+
+    return copiedCountMap;
+  }
+
+  /**
+   * 경매 데이터 테이블에 있는 품목 중 품목 테이블(auction_category)에 없는 것을 채우는 메서드
+   * @return key : 원본 테이블 이름, value : 새로 추가된 품목 수
+   * @author 연상훈
+   * @created 2026-10-18 오후 10:40
+   * @info 수집이 품목 테이블을 채우기 전에 쌓인 데이터를 위해 한 번만 호출하면 됨. 그 뒤로는 수집할 때마다 새 품목이 추가됨
+   * @info 품목 테이블의 중복을 먼저 정리하고 unique 인덱스를 적용해야 INSERT IGNORE가 중복을 걸러냄
+   */
+  @Override
+  public Map<String, Integer> syncCategoryTable() {
+    auctionCompactJdbcRepository.applyItemKey();
+
+    List<String> tableNames = new ArrayList<>();
+    for (String category : auctionEntityJdbcRepository.getCategories()) {
+      tableNames.add(auctionEntityJdbcRepository.getTableName(category));
+    }
+    tableNames.add(auctionEntityJdbcRepository.getUnifiedTableName());
+
+    Map<String, Integer> insertedCountMap = new LinkedHashMap<>();
+    for (String tableName : tableNames) {
+      insertedCountMap.put(tableName, auctionDictionaryRepository.fillFromTable(tableName));
+    }
+
+    auctionCategoryTree.refresh();
+
+    return insertedCountMap;
   }
 
   private <T> CategoryResultDTO convertPageToDTO(Page<T> page) {
@@ -421,6 +626,42 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
         .build();
   }
 
+  /**
+   * 새로 수집된 대분류의 총 개수 캐시를 비우는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:42
+   * @info 과거 가격까지 저장되면 기간이 어디든 개수가 바뀔 수 있어서, 날짜와 상관없이 대분류 단위로 비움
+   */
+  @EventListener
+  public void onAuctionDataIngested(AuctionDataIngestedEvent event) {
+    pageCountCache.evictIf(PageCountCache.AUCTION, countKey ->
+        event.getLarges().stream().anyMatch(large -> countKey.startsWith(large + "|"))
+    );
+  }
+
+  private String composeCountKey(String large, String middle, String small, String rank, LocalDate startDate, LocalDate endDate) {
+    return large + "|" + middle + "|" + small + "|" + rank + "|" + startDate + "|" + endDate;
+  }
+
+  private CategoryResultDTO convertSliceToDTO(Slice<? extends AuctionBaseEntity> slice) {
+    List<AuctionBaseEntity> transactionHistoryList = convertListObject(slice.getContent());
+    boolean hasNext = slice.hasNext();
+
+    // 다음 페이지는 이번 페이지의 마지막 행 뒤부터 시작
+    String nextCursor = null;
+    if (hasNext) {
+      AuctionBaseEntity last = transactionHistoryList.get(transactionHistoryList.size() - 1);
+      nextCursor = new AuctionPageCursor(last.getDelDate(), last.getDelId()).encode();
+    }
+
+    return CategoryResultDTO.builder()
+        .transactionHistoryList(transactionHistoryList)
+        .currentPageSize(slice.getNumberOfElements())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
   private <T> List<AuctionBaseEntity> convertListObject(List<T> list) {
     if (list == null) {
       return Collections.emptyList();
@@ -430,94 +671,109 @@ public class AuctionEntityServiceImpl implements AuctionEntityService {
         .collect(Collectors.toList()); // 리스트로 수집
   }
 
-  private AuctionBaseEntity convertRowToAni_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_ani ani = AuctionEntity_ani.builder()
-        .delDate(convertStrToLocalDate(date))
-        .large(category)
-        .middle(row.getItem_name())
-        .productName(row.getKind_name())
-        .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
-        .market_name(marketName)
-        .del_unit(row.getUnit())
-        .build();
-
-    return aniEntity_repo.save(ani);
+  // 등급이 없는 품목은 빈 문자열로 저장함. product_rank는 NOT NULL이고, NULL이면 자연키로 중복이 걸러지지 않기 때문
+  private String convertRank(String rank) {
+    return rank == null ? "" : rank;
   }
 
-  private AuctionBaseEntity convertRowToFish_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_fish fish = AuctionEntity_fish.builder()
-        .delDate(convertStrToLocalDate(date))
+  private AuctionBaseEntity convertRowToEntity(OriginAuctionDataRow row, LocalDate delDate, String marketName, String category) {
+    return AuctionBaseEntity.builder()
+        .delDate(delDate)
         .large(category)
         .middle(row.getItem_name())
         .productName(row.getKind_name())
         .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
+        .productRank(convertRank(row.getRank()))
         .market_name(marketName)
         .del_unit(row.getUnit())
         .build();
+  }
 
-    return fishEntity_repo.save(fish);
+  // 가격이 있는 과거 가격만 엔티티로 만들어서 추가
+  private List<AuctionBaseEntity> convertRowsToHistoryEntities(
+      List<OriginAuctionDataRow> rowList,
+      LocalDate delDate,
+      String marketName,
+      String category
+  ) {
+    List<AuctionBaseEntity> entityList = new ArrayList<>();
+    for (OriginAuctionDataRow row : rowList) {
+      addHistoryPoint(entityList, row, row.getDay2(), row.getDpr2(), delDate.minusDays(1), marketName, category);
+      addHistoryPoint(entityList, row, row.getDay3(), row.getDpr3(), delDate.minusWeeks(1), marketName, category);
+      addHistoryPoint(entityList, row, row.getDay4(), row.getDpr4(), delDate.minusWeeks(2), marketName, category);
+      addHistoryPoint(entityList, row, row.getDay5(), row.getDpr5(), delDate.minusMonths(1), marketName, category);
+      addHistoryPoint(entityList, row, row.getDay6(), row.getDpr6(), delDate.minusYears(1), marketName, category);
+    }
+    return entityList;
   }
 
-  private AuctionBaseEntity convertRowToFoodCrops_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_foodCrops foodCrops = AuctionEntity_foodCrops.builder()
-        .delDate(convertStrToLocalDate(date))
+  private void addHistoryPoint(
+      List<AuctionBaseEntity> entityList,
+      OriginAuctionDataRow row,
+      String dayLabel,
+      String price,
+      LocalDate expectedDate,
+      String marketName,
+      String category
+  ) {
+    if (!isValidPrice(price)) {
+      return;
+    }
+
+    entityList.add(AuctionBaseEntity.builder()
+        .delDate(resolveHistoryDate(dayLabel, expectedDate))
         .large(category)
         .middle(row.getItem_name())
         .productName(row.getKind_name())
-        .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
+        .price(convertStrToPrice(price))
+        .productRank(convertRank(row.getRank()))
         .market_name(marketName)
         .del_unit(row.getUnit())
-        .build();
-
-    return foodCropsEntity_repo.save(foodCrops);
+        .build()
+    );
   }
 
-  private AuctionBaseEntity convertRowToFruit_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_fruit fruit = AuctionEntity_fruit.builder()
-        .delDate(convertStrToLocalDate(date))
-        .large(category)
-        .middle(row.getItem_name())
-        .productName(row.getKind_name())
-        .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
-        .market_name(marketName)
-        .del_unit(row.getUnit())
-        .build();
+  /**
+   * dayN 라벨(예: "1주일전 (11/07)")에서 실제 날짜를 구하는 메서드
+   * @param dayLabel dayN 값
+   * @param expectedDate 조회 날짜에서 오프셋만큼 뺀 날짜
+   * @author 연상훈
+   * @created 2026-10-18 오후 6:40
+   * @info 라벨에는 월/일만 있으므로, expectedDate와 가장 가까운 연도를 붙임. 1월에 조회한 "1개월전 (12/xx)"는 작년이 됨
+   * @info 라벨에 날짜가 없거나 이상하면 expectedDate를 그대로 사용함
+   */
+  private LocalDate resolveHistoryDate(String dayLabel, LocalDate expectedDate) {
+    if (dayLabel == null) {
+      return expectedDate;
+    }
 
-    return fruitEntity_repo.save(fruit);
-  }
+    Matcher matcher = DAY_LABEL_PATTERN.matcher(dayLabel);
+    if (!matcher.find()) {
+      return expectedDate;
+    }
 
-  private AuctionBaseEntity convertRowToVegetable_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_vegetable produce = AuctionEntity_vegetable.builder()
-        .delDate(convertStrToLocalDate(date))
-        .large(category)
-        .middle(row.getItem_name())
-        .productName(row.getKind_name())
-        .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
-        .market_name(marketName)
-        .del_unit(row.getUnit())
-        .build();
+    int month = Integer.parseInt(matcher.group(1));
+    int day = Integer.parseInt(matcher.group(2));
 
-    return vegetableEntity_repo.save(produce);
-  }
+    LocalDate closest = null;
+    for (int year = expectedDate.getYear() - 1; year <= expectedDate.getYear() + 1; year++) {
+      try {
+        LocalDate candidate = LocalDate.of(year, month, day);
+        if (closest == null
+            || Math.abs(ChronoUnit.DAYS.between(candidate, expectedDate)) < Math.abs(ChronoUnit.DAYS.between(closest, expectedDate))) {
+          closest = candidate;
+        }
+      } catch (DateTimeException e) {
+        // 윤년이 아닌 해의 2월 29일 등
+      }
+    }
 
-  private AuctionBaseEntity convertSpecialCrops_andSave(OriginAuctionDataRow row, String date, String marketName, String category) {
-    AuctionEntity_specialCrop specialCrop = AuctionEntity_specialCrop.builder()
-        .delDate(convertStrToLocalDate(date))
-        .large(category)
-        .middle(row.getItem_name())
-        .productName(row.getKind_name())
-        .price(convertStrToPrice(row.getDpr1()))
-        .productRank(row.getRank())
-        .market_name(marketName)
-        .del_unit(row.getUnit())
-        .build();
+    return closest == null ? expectedDate : closest;
+  }
 
-    return specialCropsEntity_repo.save(specialCrop);
+  // 가격이 "-"이거나 비어 있으면 저장할 수 없음
+  private boolean isValidPrice(String str) {
+    return str != null && str.replace(",", "").matches("\\d+");
   }
 
   private Integer convertStrToPrice(String str){
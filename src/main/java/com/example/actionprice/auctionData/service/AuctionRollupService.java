@@ -0,0 +1,24 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface AuctionRollupService {
+
+  boolean isEnabled();
+
+  Map<String, Integer> rebuild(LocalDate startDate, LocalDate endDate);
+
+  List<AuctionChartBucket> getChartBuckets(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  );
+}
@@ -0,0 +1,206 @@
+package com.example.actionprice.auctionData.service;
+
+import com.example.actionprice.auctionData.dto.AuctionChartBucket;
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.ingest.AuctionDataIngestedEvent;
+import com.example.actionprice.auctionData.repository.AuctionEntityJdbcRepository;
+import com.example.actionprice.auctionData.repository.AuctionRollupJdbcRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+/**
+ * 그래프용 집계 테이블(auction_price_rollup)을 관리하는 서비스
+ * @author 연상훈
+ * @created 2026-10-18 오후 11:25
+ * @value enabled : auctionData.rollup.enabled. false면 집계 테이블을 채우지도, 읽지도 않음
+ * @info 수집이 끝날 때마다(AuctionDataIngestedEvent) 저장된 날짜가 속한 일간/주간/월간 구간만 다시 집계함
+ * @info 켜기 전에 쌓인 데이터는 rebuild로 한 번 채워야 함. 순서 : rebuild 호출 > auctionData.rollup.enabled=true로 재시작 > 전환 사이의 기간을 위해 한 번 더 rebuild
+ */
+@Service
+@Log4j2
+public class AuctionRollupServiceImpl implements AuctionRollupService {
+
+  // rebuild할 때 sql 한 번에 다시 집계할 구간 수. 대략 한 달치
+  private static final Map<AuctionChartInterval, Integer> REBUILD_BUCKETS_PER_STATEMENT = Map.of(
+      AuctionChartInterval.DAILY, 31,
+      AuctionChartInterval.WEEKLY, 5,
+      AuctionChartInterval.MONTHLY, 1
+  );
+
+  private final AuctionRollupJdbcRepository auctionRollupJdbcRepository;
+  private final AuctionEntityJdbcRepository auctionEntityJdbcRepository;
+  private final AuctionChartCache auctionChartCache;
+  private final boolean enabled;
+
+  public AuctionRollupServiceImpl(
+      AuctionRollupJdbcRepository auctionRollupJdbcRepository,
+      AuctionEntityJdbcRepository auctionEntityJdbcRepository,
+      AuctionChartCache auctionChartCache,
+      @Value("${auctionData.rollup.enabled:false}") boolean enabled
+  ) {
+    this.auctionRollupJdbcRepository = auctionRollupJdbcRepository;
+    this.auctionEntityJdbcRepository = auctionEntityJdbcRepository;
+    this.auctionChartCache = auctionChartCache;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 수집으로 저장된 날짜가 속한 구간들을 다시 집계하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:27
+   * @info 하루치를 수집하면 대분류마다 일간 1개, 주간 1개, 월간 1개 구간만 다시 집계함
+   * @updated 2026-10-19 오전 1:05 : 그래프 캐시(AuctionChartCache)가 비워지기 전에 다시 집계하도록 가장 먼저 실행됨
+   * @updated 2026-10-19 오전 6:50 : 에러는 구간마다 삼키고 로그만 남김. 가장 먼저 실행되는 리스너라, 여기서 던지면 캐시 무효화 등 뒤의 리스너가 전부 실행되지 않음
+   * @info 실패한 구간은 그 구간이 다시 수집되거나 rebuild를 호출할 때 다시 집계됨
+   */
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onAuctionDataIngested(AuctionDataIngestedEvent event) {
+    if (!enabled) {
+      return;
+    }
+
+    event.getTouchedDates().forEach((category, dateSet) -> {
+      for (AuctionChartInterval interval : AuctionChartInterval.values()) {
+        Set<LocalDate> bucketStartSet = new TreeSet<>();
+        dateSet.forEach(date -> bucketStartSet.add(interval.bucketStart(date)));
+
+        bucketStartSet.forEach(bucketStart -> {
+          try {
+            auctionRollupJdbcRepository.refreshBuckets(category, interval, bucketStart, interval.bucketEnd(bucketStart));
+          } catch (Exception e) {
+            log.error("[class] AuctionRollupServiceImpl - [method] onAuctionDataIngested - category : {} | interval : {} | bucket : {} | error : {}",
+                category, interval, bucketStart, e.toString());
+          }
+        });
+      }
+    });
+
+    log.info("[class] AuctionRollupServiceImpl - [method] onAuctionDataIngested - categories : {}", event.getLarges());
+  }
+
+  /**
+   * 기간 안의 모든 구간을 원본 테이블에서 다시 집계하는 메서드
+   * @return key : 대분류 이름, value : affected rows
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:30
+   * @info 기간의 양 끝이 걸친 구간은 구간 전체를 다시 집계함. 여러 번 호출해도 안전함
+   * @info 대분류마다, 간격마다 한 달치씩 나눠서 집계해서 sql 하나가 너무 오래 걸리지 않게 함
+   */
+  @Override
+  public Map<String, Integer> rebuild(LocalDate startDate, LocalDate endDate) {
+    if (startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("startDate(" + startDate + ") is after endDate(" + endDate + ")");
+    }
+
+    Map<String, Integer> affectedRowsMap = new LinkedHashMap<>();
+
+    for (String category : auctionEntityJdbcRepository.getCategories()) {
+      int affectedRows = 0;
+
+      for (AuctionChartInterval interval : AuctionChartInterval.values()) {
+        LocalDate chunkStart = interval.bucketStart(startDate);
+        while (!chunkStart.isAfter(endDate)) {
+          LocalDate chunkEnd = chunkStart;
+          for (int i = 1; i < REBUILD_BUCKETS_PER_STATEMENT.get(interval); i++) {
+            chunkEnd = interval.nextBucketStart(chunkEnd);
+          }
+          chunkEnd = interval.bucketEnd(chunkEnd);
+
+          affectedRows += auctionRollupJdbcRepository.refreshBuckets(category, interval, chunkStart, chunkEnd);
+          chunkStart = chunkEnd.plusDays(1);
+        }
+      }
+
+      affectedRowsMap.put(category, affectedRows);
+      log.info("[class] AuctionRollupServiceImpl - [method] rebuild - category : {} | affected : {}", category, affectedRows);
+    }
+
+    // 다시 집계하기 전의 값으로 만든 그래프가 남지 않도록 비움
+    auctionChartCache.evictAll();
+
+    return affectedRowsMap;
+  }
+
+  /**
+   * 그래프에 쓸 구간별, 시장별 집계를 반환하는 메서드
+   * @author 연상훈
+   * @created 2026-10-18 오후 11:33
+   * @info 기간 안에 통째로 들어가는 구간은 해당 간격의 집계를 그대로 읽음
+   * @info 기간의 양 끝에 걸쳐서 일부만 들어가는 구간은 일간 집계를 읽어서 합침. 원본 행을 날짜만 바꿔서 평균 내던 기존 결과와 같아짐
+   * @info 1년치 월간 그래프면 월간 집계 약 11개 x 시장 수 + 양 끝의 일간 집계 한 달치 이하만 읽음
+   */
+  @Override
+  public List<AuctionChartBucket> getChartBuckets(
+      String large,
+      String middle,
+      String small,
+      String rank,
+      AuctionChartInterval interval,
+      LocalDate startDate,
+      LocalDate endDate
+  ) {
+    if (interval == AuctionChartInterval.DAILY) {
+      return auctionRollupJdbcRepository.findBuckets(large, middle, small, rank, interval, startDate, endDate);
+    }
+
+    // 기간 안에 통째로 들어가는 구간의 범위
+    LocalDate fullStart = interval.bucketStart(startDate).equals(startDate) ? startDate : interval.nextBucketStart(startDate);
+    LocalDate fullEnd = interval.bucketEnd(endDate).equals(endDate) ? endDate : interval.bucketStart(endDate).minusDays(1);
+
+    if (fullStart.isAfter(fullEnd)) {
+      return mergeDailyIntoBuckets(
+          auctionRollupJdbcRepository.findBuckets(large, middle, small, rank, AuctionChartInterval.DAILY, startDate, endDate),
+          interval
+      );
+    }
+
+    List<AuctionChartBucket> bucketList = new ArrayList<>(
+        auctionRollupJdbcRepository.findBuckets(large, middle, small, rank, interval, fullStart, fullEnd)
+    );
+
+    List<AuctionChartBucket> edgeList = new ArrayList<>();
+    if (startDate.isBefore(fullStart)) {
+      edgeList.addAll(auctionRollupJdbcRepository.findBuckets(large, middle, small, rank, AuctionChartInterval.DAILY, startDate, fullStart.minusDays(1)));
+    }
+    if (endDate.isAfter(fullEnd)) {
+      edgeList.addAll(auctionRollupJdbcRepository.findBuckets(large, middle, small, rank, AuctionChartInterval.DAILY, fullEnd.plusDays(1), endDate));
+    }
+    bucketList.addAll(mergeDailyIntoBuckets(edgeList, interval));
+
+    return bucketList;
+  }
+
+  // 일간 집계를 interval의 구간으로 합침
+  private List<AuctionChartBucket> mergeDailyIntoBuckets(List<AuctionChartBucket> dailyList, AuctionChartInterval interval) {
+    Map<String, AuctionChartBucket> bucketMap = new LinkedHashMap<>();
+
+    for (AuctionChartBucket daily : dailyList) {
+      LocalDate bucketStart = interval.bucketStart(daily.getBucketDate());
+      AuctionChartBucket incoming = new AuctionChartBucket(bucketStart, daily.getMarketName(), daily.getPriceSum(), daily.getPriceCount());
+
+      bucketMap.merge(bucketStart + "|" + daily.getMarketName(), incoming, (existing, added) -> {
+        existing.merge(added);
+        return existing;
+      });
+    }
+
+    return new ArrayList<>(bucketMap.values());
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.actionprice.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 페이지네이션의 총 개수(count 쿼리 결과)를 캐싱하는 컴포넌트
+ * @author 연상훈
+ * @created 2026-10-18 오후 9:30
+ * @value ttlSeconds : 캐싱된 개수를 최대 몇 초까지 쓸지. evict는 이 서버 안에서만 일어나서, 서버가 여러 대면 다른 서버에서 쓴 글과 댓글은 개수에 늦게 반영됨. 틀려도 총 페이지 수가 한두 개 어긋나는 정도라 10분(600)으로 둠
+ * @value maxEntries : namespace 하나에 담을 수 있는 최대 key 수. 넘으면 그 namespace를 비우고 다시 채움
+ * @info namespace는 "auction", "post", "comment"처럼 도메인 단위이고, key는 조회 조건(카테고리 경로 + 기간, 키워드, postId 등)
+ * @info 데이터를 쓰는 쪽(수집, 게시글/댓글 작성과 삭제)에서 evict를 호출해서 무효화함
+ * @info 트랜잭션 안에서 evict하면 커밋 직후에 한 번 더 지움. 커밋 전에 다른 요청이 옛날 개수를 다시 캐싱하는 경우를 막기 위함
+ */
+@Component
+@Log4j2
+public class PageCountCache {
+
+  public static final String AUCTION = "auction";
+  public static final String POST = "post";
+  public static final String COMMENT = "comment";
+
+  private final long ttlMillis;
+  private final int maxEntries;
+
+  private final Map<String, Map<String, CachedCount>> namespaceMap = new ConcurrentHashMap<>();
+
+  public PageCountCache(
+      @Value("${pageCount.cache.ttlSeconds:600}") long ttlSeconds,
+      @Value("${pageCount.cache.maxEntries:10000}") int maxEntries
+  ) {
+    this.ttlMillis = ttlSeconds * 1000;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 캐싱된 개수를 반환하고, 없거나 만료되었으면 counter로 세서 캐싱하는 메서드
+   * @param counter 실제 count 쿼리
+   * @author 연상훈
+   * @created 2026-10-18 오후 9:32
+   */
+  public long get(String namespace, String key, LongSupplier counter) {
+    Map<String, CachedCount> countMap = namespaceMap.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>());
+    long now = System.currentTimeMillis();
+
+    CachedCount cachedCount = countMap.get(key);
+    if (cachedCount != null && cachedCount.expiresAt > now) {
+      return cachedCount.count;
+    }
+
+    long count = counter.getAsLong();
+
+    if (countMap.size() >= maxEntries) {
+      log.info("[class] PageCountCache - [method] get - namespace({}) is full. clear", namespace);
+      countMap.clear();
+    }
+    countMap.put(key, new CachedCount(count, now + ttlMillis));
+
+    return count;
+  }
+
+  public void evict(String namespace, String key) {
+    runNowAndAfterCommit(() -> {
+      Map<String, CachedCount> countMap = namespaceMap.get(namespace);
+      if (countMap != null) {
+        countMap.remove(key);
+      }
+    });
+  }
+
+  public void evictIf(String namespace, Predicate<String> keyPredicate) {
+    runNowAndAfterCommit(() -> {
+      Map<String, CachedCount> countMap = namespaceMap.get(namespace);
+      if (countMap != null) {
+        countMap.keySet().removeIf(keyPredicate);
+      }
+    });
+  }
+
+  public void evictAll(String namespace) {
+    runNowAndAfterCommit(() -> namespaceMap.remove(namespace));
+  }
+
+  private void runNowAndAfterCommit(Runnable eviction) {
+    eviction.run();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  private record CachedCount(long count, long expiresAt) {}
+}
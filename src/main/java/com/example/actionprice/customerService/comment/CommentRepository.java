@@ -1,14 +1,19 @@
 package com.example.actionprice.customerService.comment;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * @author 연상훈
  * @created 2024-10-27 오후 1:25
+ * @updated 2026-10-18 오후 9:45 : count 쿼리 없이 목록만 조회하는 메서드와 count 메서드 추가. 총 개수는 PageCountCache에 캐싱함
+ * @updated 2026-10-19 오전 5:40 : 더 이상 쓰지 않는 Page 반환 메서드 삭제
  */
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
-  Page<Comment> findByPost_PostId(Integer postId, Pageable pageable);
-  Page<Comment> findByUser_Username(String username, Pageable pageable);
+  List<Comment> findListByPost_PostId(Integer postId, Pageable pageable);
+  List<Comment> findListByUser_Username(String username, Pageable pageable);
+
+  long countByPost_PostId(Integer postId);
+  long countByUser_Username(String username);
 }
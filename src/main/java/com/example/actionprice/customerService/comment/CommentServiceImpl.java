@@ -1,5 +1,6 @@
 package com.example.actionprice.customerService.comment;
 
+import com.example.actionprice.cache.PageCountCache;
 import com.example.actionprice.customerService.chatGpt.ChatGptFetcher;
 import com.example.actionprice.customerService.post.Post;
 import com.example.actionprice.customerService.post.PostRepository;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -31,6 +33,7 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
 
     private final ChatGptFetcher chatGptFetcher;
+    private final PageCountCache pageCountCache;
 
     /**
      * 댓글 생성
@@ -65,6 +68,8 @@ public class CommentServiceImpl implements CommentService {
         post.addComment(comment);
         postRepository.save(post);
 
+        evictCommentCount(postId, logined_username);
+
         return convertCommentToCommentSimpleDTO(comment, logined_username);
     }
 
@@ -122,6 +127,8 @@ public class CommentServiceImpl implements CommentService {
 
         commentRepository.delete(comment);
 
+        evictCommentCount(comment.getPost().getPostId(), owner_username);
+
         return convertCommentToCommentSimpleDTO(comment, owner_username);
     }
 
@@ -147,7 +154,11 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Pageable pageable = PageRequest.of(pageNum, 10, Sort.by(Sort.Order.desc("commentId")));
-        Page<Comment> commentPage = commentRepository.findByPost_PostId(postId, pageable);
+        Page<Comment> commentPage = PageableExecutionUtils.getPage(
+                commentRepository.findListByPost_PostId(postId, pageable),
+                pageable,
+                () -> pageCountCache.get(PageCountCache.COMMENT, "post:" + postId, () -> commentRepository.countByPost_PostId(postId))
+        );
 
         boolean hasNoComments = (commentPage == null || !commentPage.hasContent());
 
@@ -189,7 +200,11 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public CommentListDTO getCommentListByUsername(String username, Integer pageNum) {
         Pageable pageable = PageRequest.of(pageNum, 10, Sort.by(Sort.Order.desc("commentId")));
-        Page<Comment> commentPage = commentRepository.findByUser_Username(username, pageable);
+        Page<Comment> commentPage = PageableExecutionUtils.getPage(
+                commentRepository.findListByUser_Username(username, pageable),
+                pageable,
+                () -> pageCountCache.get(PageCountCache.COMMENT, "user:" + username, () -> commentRepository.countByUser_Username(username))
+        );
 
         boolean hasNoComments = (commentPage == null || !commentPage.hasContent());
 
@@ -262,6 +277,16 @@ public class CommentServiceImpl implements CommentService {
         return sb.toString();
     }
 
+    /**
+     * 댓글이 추가되거나 삭제된 게시글과 작성자의 댓글 총 개수 캐시를 비우는 메서드
+     * @author 연상훈
+     * @created 2026-10-18 오후 9:45
+     */
+    private void evictCommentCount(Integer postId, String username) {
+        pageCountCache.evict(PageCountCache.COMMENT, "post:" + postId);
+        pageCountCache.evict(PageCountCache.COMMENT, "user:" + username);
+    }
+
     /**
      * comment > commentSimpleDTO 변환 메서드
      * @author 연상훈
@@ -1,16 +1,22 @@
 package com.example.actionprice.customerService.post;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 /**
  * @author 연상훈
  * @created 2024-10-27 오후 1:25
+ * @updated 2026-10-18 오후 9:45 : count 쿼리 없이 목록만 조회하는 메서드와 count 메서드 추가. 총 개수는 PageCountCache에 캐싱함
+ * @updated 2026-10-19 오전 5:40 : 더 이상 쓰지 않는 Page 반환 메서드 삭제
  */
 public interface PostRepository extends JpaRepository<Post, Integer>{
     
-    Page<Post> findByTitleContainingOrUser_UsernameContaining(String titleKeyword, String usernameKeyword, Pageable pageable);
+    List<Post> findListBy(Pageable pageable);
+    List<Post> findListByTitleContainingOrUser_UsernameContaining(String titleKeyword, String usernameKeyword, Pageable pageable);
+    List<Post> findListByUser_UsernameAndTitleContaining(String username, String keyword, Pageable pageable);
+    List<Post> findListByUser_Username(String username, Pageable pageable);
 
-    Page<Post> findByUser_UsernameAndTitleContaining(String username, String keyword, Pageable pageable);
-    Page<Post> findByUser_Username(String username, Pageable pageable);
+    long countByTitleContainingOrUser_UsernameContaining(String titleKeyword, String usernameKeyword);
+    long countByUser_UsernameAndTitleContaining(String username, String keyword);
+    long countByUser_Username(String username);
 }
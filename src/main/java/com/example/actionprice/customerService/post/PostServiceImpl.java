@@ -1,5 +1,6 @@
 package com.example.actionprice.customerService.post;
 
+import com.example.actionprice.cache.PageCountCache;
 import com.example.actionprice.customerService.post.dto.PostListDTO;
 import com.example.actionprice.customerService.post.dto.PostSimpleDTO;
 import com.example.actionprice.exception.PostNotFoundException;
@@ -7,18 +8,21 @@ import com.example.actionprice.exception.UserNotFoundException;
 import com.example.actionprice.user.User;
 import com.example.actionprice.user.UserRepository;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 /**
  * @author 연상훈
  * @created 2024-10-27 오후 2:50
+ * @updated 2026-10-18 오후 9:45 : 목록의 총 개수를 PageCountCache에 캐싱하고, 게시글을 만들거나 지우거나 제목을 바꾸면 무효화함
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +32,7 @@ public class PostServiceImpl implements PostService{
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
 
     /**
      * 게시글 생성 기능
@@ -57,6 +62,8 @@ public class PostServiceImpl implements PostService{
         user.addPost(post); // 그리고 postId가 있어야만 user의 postSet에 등록 가능
         userRepository.save(user); // post가 연결된 상태를 save
 
+        pageCountCache.evictAll(PageCountCache.POST); // 전체 목록과 키워드 검색 결과의 개수가 모두 바뀔 수 있음
+
         return PostSimpleDTO.builder()
             .postId(post.getPostId())
             .title(post.getTitle())
@@ -122,6 +129,11 @@ public class PostServiceImpl implements PostService{
             checkIfPostOwnerOrAdmin(owner_username, logined_username, isAdmin);
         }
 
+        // 제목이 바뀌면 키워드 검색 결과의 개수가 바뀔 수 있음
+        if (!post.getTitle().equals(postForm.getTitle())) {
+            pageCountCache.evictAll(PageCountCache.POST);
+        }
+
         post.setTitle(postForm.getTitle());
         post.setContent(postForm.getContent());
 
@@ -160,6 +172,10 @@ public class PostServiceImpl implements PostService{
         }
         postRepository.delete(post);
 
+        // 게시글에 달린 댓글도 함께 지워지니 댓글 개수도 무효화
+        pageCountCache.evictAll(PageCountCache.POST);
+        pageCountCache.evictAll(PageCountCache.COMMENT);
+
         return PostSimpleDTO.builder()
                 .postId(post.getPostId())
                 .title(post.getTitle())
@@ -225,10 +241,17 @@ public class PostServiceImpl implements PostService{
         if (keyword == null || keyword.isEmpty()) {
             // 키워드가 없을 경우 전체 목록 반환
             keyword = "";
-            postPage = postRepository.findAll(pageable);
+            postPage = PageableExecutionUtils.getPage(postRepository.findListBy(pageable), pageable, () ->
+                pageCountCache.get(PageCountCache.POST, "all", postRepository::count)
+            );
         } else {
             // 키워드가 있을 경우 post의 title과 username 에서 키워드를 검색
-            postPage = postRepository.findByTitleContainingOrUser_UsernameContaining(keyword, keyword, pageable);
+            String searchKeyword = keyword;
+            List<Post> postList = postRepository.findListByTitleContainingOrUser_UsernameContaining(searchKeyword, searchKeyword, pageable);
+            postPage = PageableExecutionUtils.getPage(postList, pageable, () ->
+                pageCountCache.get(PageCountCache.POST, "keyword:" + searchKeyword, () ->
+                    postRepository.countByTitleContainingOrUser_UsernameContaining(searchKeyword, searchKeyword))
+            );
         }
 
         return new PostListDTO(postPage, keyword);
@@ -254,10 +277,17 @@ public class PostServiceImpl implements PostService{
         if (keyword == null || keyword.isEmpty()) {
             // 키워드가 없을 경우, 해당 사용자가 작성한 게시글의 전체 목록 반환
             keyword = "";
-            postPage = postRepository.findByUser_Username(username, pageable);
+            postPage = PageableExecutionUtils.getPage(postRepository.findListByUser_Username(username, pageable), pageable, () ->
+                pageCountCache.get(PageCountCache.POST, "user:" + username, () -> postRepository.countByUser_Username(username))
+            );
         } else {
             // 키워드가 있을 경우, 해당 사용자가 작성한 게시글 중 제목에 해당 키워드가 있는 것을 반환
-            postPage = postRepository.findByUser_UsernameAndTitleContaining(username, keyword, pageable);
+            String searchKeyword = keyword;
+            List<Post> postList = postRepository.findListByUser_UsernameAndTitleContaining(username, searchKeyword, pageable);
+            postPage = PageableExecutionUtils.getPage(postList, pageable, () ->
+                pageCountCache.get(PageCountCache.POST, "user:" + username + "|keyword:" + searchKeyword, () ->
+                    postRepository.countByUser_UsernameAndTitleContaining(username, searchKeyword))
+            );
         }
 
         log.info("[class] PostServiceImpl - [method] getPostList > 완료");
@@ -1,5 +1,6 @@
 package com.example.actionprice.myPage;
 
+import com.example.actionprice.cache.PageCountCache;
 import com.example.actionprice.customerService.post.PostService;
 import com.example.actionprice.customerService.post.dto.PostListDTO;
 import com.example.actionprice.exception.UserNotFoundException;
@@ -26,6 +27,7 @@ public class MyPageServiceImpl implements MyPageService {
 
     private final UserRepository userRepository;
     private final PostService postService;
+    private final PageCountCache pageCountCache;
 
     /**
      * MyPage 내에서 사용자의 개인 정보를 출력하는 기능
@@ -52,6 +54,7 @@ public class MyPageServiceImpl implements MyPageService {
      * @info 관심사로 따지면 UserService에 있어야 하지만,
      * 삭제는 MyPage 내에서만 가능하게 할 생각이고,
      * 그거 하나 때문에 UserService를 여기에 가져오는 건 너무 낭비라서 이렇게 함
+     * @updated 2026-10-18 오후 9:45 : 게시글과 댓글 목록의 총 개수 캐시 무효화
      */
     @Override
     public void deleteUser(String username) {
@@ -60,6 +63,10 @@ public class MyPageServiceImpl implements MyPageService {
             .orElseThrow(() -> new UserNotFoundException("user(" + username + ") does not exist"));
 
         userRepository.delete(user);
+
+        // 사용자의 게시글과 댓글이 함께 지워져서 다른 사람의 목록 개수도 바뀜
+        pageCountCache.evictAll(PageCountCache.POST);
+        pageCountCache.evictAll(PageCountCache.COMMENT);
     }
 
     /**
@@ -1,24 +1,44 @@
 package com.example.actionprice.scheduler;
 
+import com.example.actionprice.auctionData.ingest.AuctionIngestResultDTO;
+import com.example.actionprice.auctionData.ingest.AuctionIngestService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
 /**
- * 추후 라이브 서비스 시 자동으로 최신 데이터를 업데이트하기 위한 컴포넌트입니다.
+ * 라이브 서비스 시 자동으로 최신 데이터를 업데이트하기 위한 컴포넌트입니다.
  * @author : 연상훈
  * @created : 2024-10-12 오전 11:45
- * @updated : 2024-10-12 오전 11:45
- * @info : 현재는 사용되지 않습니다.
+ * @updated : 2026-10-18 오전 11:02 : 주석 처리되어 있던 것을 AuctionIngestService를 사용하도록 구현
+ * @updated : 2026-10-18 오후 4:58 : 당일 수집이 끝나면 dead letter로 남은 이전 실패분도 다시 수집
+ * @updated : 2026-10-18 오후 6:05 : 매번 144개를 전부 받지 않고, 워터마크 이후에 새로 공개된 데이터만 수집하도록 변경
+ * @info : 실행 시각은 auction-data.ingest.cron으로 변경 가능. 기본값은 매일 오후 3시 ~ 9시 매 정각
+ * @info : 공개 전이면 probe 요청 하나, 이미 다 받았으면 요청 0개로 끝나기 때문에 여러 번 돌려도 부담이 없음. 그래서 KAMIS의 공개 시각이 늦어져도 그날 안에 받아옴
  */
-//@Component
-//@RequiredArgsConstructor
-//@Log4j2
-//@Transactional
+@Component
+@RequiredArgsConstructor
+@Log4j2
 public class NewDataCheckScheduler {
 
-  // private final AuctionDataService
+  private final AuctionIngestService auctionIngestService;
+
+  @Scheduled(cron = "${auction-data.ingest.cron:0 0 15-21 * * *}", zone = "Asia/Seoul")
+  public void checkNewDataRegularly() {
+    LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    log.info("새로운 데이터를 확인합니다. date : {}", today);
+
+    List<AuctionIngestResultDTO> result = auctionIngestService.ingestNewData(today);
+
+    log.info("새로운 데이터 수집 완료. result : {}", result);
+
+    List<AuctionIngestResultDTO> replayResults = auctionIngestService.replayDeadLetters();
 
-  // @Scheduled(fixedRate = 86400000) // 밀리초 단위. 1000 = 1초 / 60000 = 1분 / 3600000 = 1시간 / 86,400,000 = 1일
-//  public void checkNewDataRegularly() {
-//    log.info("새로운 데이터를 확인합니다.");
-//
-//  }
+    log.info("실패했던 데이터 재수집 완료. result : {}", replayResults);
+  }
 
 }
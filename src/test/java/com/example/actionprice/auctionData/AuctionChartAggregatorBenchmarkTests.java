@@ -0,0 +1,187 @@
+package com.example.actionprice.auctionData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import com.example.actionprice.auctionData.dto.ChartDataDTO;
+import com.example.actionprice.auctionData.service.AuctionChartAggregator;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 그래프 데이터 집계기와 기존 스트림 집계의 결과, 속도 비교
+ * @author 연상훈
+ * @created 2026-10-19 오전 12:20
+ * @info 기존 스트림 집계(날짜 바꾸기 > groupingBy + toMap > 맵 복사 > 정렬)를 그대로 옮겨두고, 같은 가짜 행으로 두 가지를 돌림
+ * @info 속도 비교는 오래 걸려서 평소에는 꺼둠
+ */
+@Log4j2
+public class AuctionChartAggregatorBenchmarkTests {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final int MARKETS = 24;
+    private static final int ROWS_PER_MARKET_PER_DAY = 3;
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private record Row(LocalDate delDate, String marketName, int price) {}
+
+    @Test
+    void aggregatorMatchesStreamPipeline() {
+        // 일간, 주간, 월간 경계를 모두 지나도록 기간을 고름
+        for (int days : new int[]{10, 20, 21, 60, 92, 93, 365}) {
+            LocalDate endDate = START_DATE.plusDays(days);
+            List<Row> rowList = createRows(START_DATE, endDate);
+
+            ChartDataDTO expected = streamPipeline(rowList, days);
+            ChartDataDTO actual = aggregate(rowList, START_DATE, endDate);
+
+            assertEquals(expected.getTimeIntervals(), actual.getTimeIntervals());
+            assertEquals(expected.getChartDataList(), actual.getChartDataList());
+            assertEquals(expected.getCountries(), actual.getCountries());
+        }
+    }
+
+    @Test
+    @Disabled
+    void aggregatorBenchmark() {
+        for (int days : new int[]{14, 60, 365}) {
+            LocalDate endDate = START_DATE.plusDays(days);
+            List<Row> rowList = createRows(START_DATE, endDate);
+
+            double before = averageMillis(() -> streamPipeline(rowList, days));
+            double after = averageMillis(() -> aggregate(rowList, START_DATE, endDate));
+
+            log.info("{} days, {} rows : {} ms > {} ms",
+                days, rowList.size(), String.format("%.3f", before), String.format("%.3f", after));
+        }
+    }
+
+    private List<Row> createRows(LocalDate startDate, LocalDate endDate) {
+        List<Row> rowList = new ArrayList<>();
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate);
+
+        for (int day = 0; day <= days; day++) {
+            LocalDate delDate = startDate.plusDays(day);
+            for (int market = 0; market < MARKETS; market++) {
+                // 주말에는 일부 시장만 거래가 있는 것처럼 구멍을 둠
+                if (delDate.getDayOfWeek() == DayOfWeek.SUNDAY && market % 3 != 0) {
+                    continue;
+                }
+                for (int i = 0; i < ROWS_PER_MARKET_PER_DAY; i++) {
+                    rowList.add(new Row(delDate, "시장" + market, 1000 + (day * 7 + market * 13 + i * 31) % 5000));
+                }
+            }
+        }
+
+        return rowList;
+    }
+
+    private ChartDataDTO aggregate(List<Row> rowList, LocalDate startDate, LocalDate endDate) {
+        AuctionChartInterval interval = AuctionChartInterval.of((int) ChronoUnit.DAYS.between(startDate, endDate));
+        AuctionChartAggregator aggregator = new AuctionChartAggregator(interval, startDate, endDate);
+
+        for (Row row : rowList) {
+            aggregator.add(row.delDate(), row.marketName(), row.price(), 1);
+        }
+
+        return aggregator.toChartDataDTO();
+    }
+
+    // 기존 AuctionEntityServiceImpl의 adjustDatesAndInterval + convertTransactionHistoryListToChartData
+    private ChartDataDTO streamPipeline(List<Row> rowList, int daysBetween) {
+        String timeIntervals = "일간";
+        List<Row> adjustedList = rowList;
+
+        if (daysBetween >= 21) {
+            Map<LocalDate, LocalDate> dateCache = new HashMap<>();
+            boolean monthly = daysBetween >= 93;
+            timeIntervals = monthly ? "월간" : "주간";
+
+            adjustedList = rowList.stream()
+                .map(row -> new Row(
+                    dateCache.computeIfAbsent(row.delDate(), date -> monthly
+                        ? date.withDayOfMonth(1)
+                        : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))),
+                    row.marketName(),
+                    row.price()
+                ))
+                .toList();
+        }
+
+        List<Map<String, Object>> chartDataList = adjustedList.stream()
+            .collect(Collectors.groupingBy(
+                Row::delDate,
+                Collectors.toMap(
+                    Row::marketName,
+                    row -> new ChartDataElement(row.price()),
+                    (existing, incoming) -> {
+                        existing.stackData(incoming);
+                        return existing;
+                    }
+                )
+            ))
+            .entrySet()
+            .stream()
+            .map(entry -> {
+                Map<String, Object> elementMap = new HashMap<>();
+                elementMap.put("date", entry.getKey());
+                entry.getValue().forEach((country, chartDataElement) ->
+                    elementMap.put(country, (chartDataElement.price / chartDataElement.count))
+                );
+                return elementMap;
+            })
+            .sorted(Comparator.comparing(map -> (LocalDate) map.get("date")))
+            .toList();
+
+        Set<String> countries = chartDataList.stream()
+            .flatMap(map -> map.keySet().stream())
+            .filter(key -> !key.equals("date"))
+            .collect(Collectors.toSet());
+
+        return new ChartDataDTO(timeIntervals, chartDataList, countries);
+    }
+
+    // 기존 dto.ChartDataElement
+    private static class ChartDataElement {
+        private Integer price;
+        private int count;
+
+        ChartDataElement(Integer price) {
+            this.price = price;
+            this.count = 1;
+        }
+
+        void stackData(ChartDataElement other) {
+            this.price += other.price;
+            this.count += other.count;
+        }
+    }
+
+    private double averageMillis(Supplier<ChartDataDTO> aggregation) {
+        for (int i = 0; i < WARMUP; i++) {
+            aggregation.get();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            aggregation.get();
+        }
+
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.actionprice.auctionData;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import com.example.actionprice.auctionData.export.AuctionColumnarWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AuctionColumnarWriter로 쓴 파일을 형식대로 다시 읽어서 원래 행과 같은지 확인
+ * @author 연상훈
+ * @created 2026-10-19 오전 7:40
+ * @info 읽는 쪽(decode)은 AuctionColumnarWriter의 형식 설명만 보고 만든 최소한의 구현
+ */
+public class AuctionColumnarWriterTests {
+
+    private static final int ROW_GROUP_SIZE = 4096;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void varintBoundaries() throws IOException {
+        // 가격과 날짜 차이가 varint 1 ~ 5바이트의 경계에 걸리도록 함
+        int[] prices = {0, 1, 127, 128, 16383, 16384, 2097151, 2097152, 268435455, 268435456, Integer.MAX_VALUE};
+        int[] dayGaps = {0, 1, 127, 128, 16383, 16384, 0, 1, 127, 128, 0};
+
+        List<AuctionBaseEntity> rows = new ArrayList<>();
+        LocalDate date = START_DATE;
+        for (int i = 0; i < prices.length; i++) {
+            date = date.plusDays(dayGaps[i]);
+            rows.add(row(date, "서울가락", "kg", prices[i]));
+        }
+
+        Decoded decoded = decode(write(rows));
+
+        assertRows(rows, decoded.rows);
+        assertEquals(List.of(prices.length), decoded.groupRowCounts);
+    }
+
+    @Test
+    void dictionaryIsCarriedAcrossRowGroups() throws IOException {
+        List<AuctionBaseEntity> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_GROUP_SIZE; i++) {
+            rows.add(row(START_DATE.plusDays(i / 10), (i % 2 == 0) ? "서울가락" : "부산엄궁", "kg", 1000 + i));
+        }
+        // 두 번째 row group은 첫 번째의 사전 항목을 다시 쓰고, 새 항목은 하나만 추가함
+        for (int i = 0; i < 10; i++) {
+            rows.add(row(START_DATE.plusDays(500 + i), (i == 9) ? "대구북부" : "부산엄궁", "kg", 2000 + i));
+        }
+
+        Decoded decoded = decode(write(rows));
+
+        assertRows(rows, decoded.rows);
+        assertEquals(List.of(ROW_GROUP_SIZE, 10), decoded.groupRowCounts);
+        // 첫 번째 : 서울가락, kg, 부산엄궁 / 두 번째 : 대구북부
+        assertEquals(List.of(3, 1), decoded.groupNewEntryCounts);
+    }
+
+    @Test
+    void nullUnitAndMarket() throws IOException {
+        List<AuctionBaseEntity> rows = List.of(
+            row(START_DATE, null, null, 100),
+            row(START_DATE, "서울가락", null, 200),
+            row(START_DATE.plusDays(1), null, "kg", 300)
+        );
+
+        Decoded decoded = decode(write(rows));
+
+        // 시장이 없으면 빈 문자열, 단위가 없으면 null로 돌아옴
+        assertEquals("", decoded.rows.get(0).market);
+        assertEquals(null, decoded.rows.get(0).unit);
+        assertEquals("서울가락", decoded.rows.get(1).market);
+        assertEquals(null, decoded.rows.get(1).unit);
+        assertEquals("", decoded.rows.get(2).market);
+        assertEquals("kg", decoded.rows.get(2).unit);
+    }
+
+    @Test
+    void exactlyOneRowGroup() throws IOException {
+        List<AuctionBaseEntity> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_GROUP_SIZE; i++) {
+            rows.add(row(START_DATE.plusDays(i / 24), "시장" + (i % 24), "kg", i));
+        }
+
+        Decoded decoded = decode(write(rows));
+
+        // accept에서 꽉 찬 row group을 이미 썼으므로 finish는 끝 표시만 씀
+        assertRows(rows, decoded.rows);
+        assertEquals(List.of(ROW_GROUP_SIZE), decoded.groupRowCounts);
+    }
+
+    @Test
+    void noRows() throws IOException {
+        Decoded decoded = decode(write(List.of()));
+
+        assertEquals(List.of(), decoded.rows);
+        assertEquals(List.of(), decoded.groupRowCounts);
+        assertEquals("채소류", decoded.large);
+        assertEquals("", decoded.productRank);
+    }
+
+    @Test
+    void unfinishedFileHasNoEndMarker() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AuctionColumnarWriter writer = new AuctionColumnarWriter(outputStream, "채소류", "배추", "배추", "");
+        for (int i = 0; i < ROW_GROUP_SIZE + 1; i++) {
+            writer.accept(row(START_DATE, "서울가락", "kg", i));
+        }
+
+        // finish를 부르지 않았으면 읽는 쪽에서 잘린 파일로 봄
+        assertThrows(EOFException.class, () -> decode(outputStream.toByteArray()));
+    }
+
+    private static byte[] write(List<AuctionBaseEntity> rows) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AuctionColumnarWriter writer = new AuctionColumnarWriter(outputStream, "채소류", "배추", "배추", "");
+        rows.forEach(writer);
+        writer.finish();
+        return outputStream.toByteArray();
+    }
+
+    private static Decoded decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Decoded decoded = new Decoded();
+
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertArrayEquals(new byte[]{'A', 'P', 'C', 'B'}, magic);
+        assertEquals(1, in.readByte());
+        decoded.large = in.readUTF();
+        decoded.middle = in.readUTF();
+        decoded.productName = in.readUTF();
+        decoded.productRank = in.readUTF();
+
+        List<String> dictionary = new ArrayList<>();
+        while (true) {
+            int rowCount = in.readInt();
+            if (rowCount == 0) {
+                break;
+            }
+            decoded.groupRowCounts.add(rowCount);
+
+            int newEntryCount = readVarInt(in);
+            decoded.groupNewEntryCounts.add(newEntryCount);
+            for (int i = 0; i < newEntryCount; i++) {
+                dictionary.add(in.readUTF());
+            }
+
+            long[] epochDays = new long[rowCount];
+            epochDays[0] = in.readInt();
+            for (int i = 1; i < rowCount; i++) {
+                epochDays[i] = epochDays[i - 1] + readVarInt(in);
+            }
+            int[] marketIds = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                marketIds[i] = readVarInt(in);
+            }
+            int[] unitIds = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                unitIds[i] = readVarInt(in);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                decoded.rows.add(new DecodedRow(
+                    LocalDate.ofEpochDay(epochDays[i]),
+                    dictionary.get(marketIds[i]),
+                    (unitIds[i] == 0) ? null : dictionary.get(unitIds[i] - 1),
+                    readVarInt(in)
+                ));
+            }
+        }
+
+        assertEquals(-1, in.read(), "파일의 끝 표시 뒤에 남은 바이트가 있음");
+        return decoded;
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static void assertRows(List<AuctionBaseEntity> expected, List<DecodedRow> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            AuctionBaseEntity entity = expected.get(i);
+            DecodedRow row = actual.get(i);
+            assertEquals(entity.getDelDate(), row.date, "date at " + i);
+            assertEquals(entity.getMarket_name(), row.market, "market at " + i);
+            assertEquals(entity.getDel_unit(), row.unit, "unit at " + i);
+            assertEquals(entity.getPrice(), row.price, "price at " + i);
+        }
+    }
+
+    private static AuctionBaseEntity row(LocalDate date, String market, String unit, int price) {
+        return AuctionBaseEntity.builder()
+            .delDate(date)
+            .large("채소류")
+            .middle("배추")
+            .productName("배추")
+            .productRank("")
+            .market_name(market)
+            .del_unit(unit)
+            .price(price)
+            .build();
+    }
+
+    private static class Decoded {
+        private String large;
+        private String middle;
+        private String productName;
+        private String productRank;
+        private final List<Integer> groupRowCounts = new ArrayList<>();
+        private final List<Integer> groupNewEntryCounts = new ArrayList<>();
+        private final List<DecodedRow> rows = new ArrayList<>();
+    }
+
+    private record DecodedRow(LocalDate date, String market, String unit, int price) {}
+}
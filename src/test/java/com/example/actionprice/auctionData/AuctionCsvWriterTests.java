@@ -0,0 +1,101 @@
+package com.example.actionprice.auctionData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.actionprice.auctionData.entity.AuctionBaseEntity;
+import com.example.actionprice.auctionData.export.AuctionCsvWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AuctionCsvWriter의 따옴표 처리와 gzip trailer 확인
+ * @author 연상훈
+ * @created 2026-10-19 오전 7:40
+ */
+public class AuctionCsvWriterTests {
+
+    private static final String HEADER = "날짜,거래시장,대분류,중분류,상품등급,상품명,거래단위,가격\n";
+
+    private static final List<AuctionBaseEntity> ROWS = List.of(
+        row("서울가락", "상품", "배추", "10kg", 1500),
+        row("부산,엄궁", "상품", "배추 \"특\"", "kg", 2000),
+        row("대구\n북부", "", "무\r", null, 300),
+        row(null, "중품", "양파", "\"", 0)
+    );
+
+    @Test
+    void quotesOnlyWhenNeeded() throws IOException {
+        String csv = new String(write(ROWS, false), StandardCharsets.UTF_8);
+
+        assertEquals(HEADER
+            + "2024-01-02,서울가락,채소류,배추,상품,배추,10kg,1500\n"
+            + "2024-01-02,\"부산,엄궁\",채소류,배추,상품,\"배추 \"\"특\"\"\",kg,2000\n"
+            + "2024-01-02,\"대구\n북부\",채소류,배추,,\"무\r\",,300\n"
+            + "2024-01-02,,채소류,배추,중품,양파,\"\"\"\",0\n",
+            csv);
+    }
+
+    @Test
+    void gzipHasTrailer() throws IOException {
+        byte[] plain = write(ROWS, false);
+        byte[] gzip = write(ROWS, true);
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertEquals(new String(plain, StandardCharsets.UTF_8), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // trailer : CRC32(4바이트) + 원본 길이(4바이트), little endian
+        ByteBuffer trailer = ByteBuffer.wrap(gzip, gzip.length - 8, 8).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32 crc32 = new CRC32();
+        crc32.update(plain);
+        assertEquals((int) crc32.getValue(), trailer.getInt());
+        assertEquals(plain.length, trailer.getInt());
+    }
+
+    @Test
+    void unfinishedGzipIsTruncated() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AuctionCsvWriter writer = new AuctionCsvWriter(outputStream, true);
+        for (int i = 0; i < 10000; i++) {
+            writer.accept(row("서울가락", "상품", "배추", "kg", i));
+        }
+
+        // finish를 부르지 않았으면 trailer가 없어서 압축을 풀 때 에러가 남
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThrows(EOFException.class, in::readAllBytes);
+        }
+    }
+
+    private static byte[] write(List<AuctionBaseEntity> rows, boolean gzip) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AuctionCsvWriter writer = new AuctionCsvWriter(outputStream, gzip);
+        rows.forEach(writer);
+        writer.finish();
+        return outputStream.toByteArray();
+    }
+
+    private static AuctionBaseEntity row(String market, String rank, String productName, String unit, int price) {
+        return AuctionBaseEntity.builder()
+            .delDate(LocalDate.of(2024, 1, 2))
+            .large("채소류")
+            .middle("배추")
+            .productName(productName)
+            .productRank(rank)
+            .market_name(market)
+            .del_unit(unit)
+            .price(price)
+            .build();
+    }
+}
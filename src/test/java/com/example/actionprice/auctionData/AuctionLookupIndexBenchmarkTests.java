@@ -0,0 +1,188 @@
+package com.example.actionprice.auctionData;
+
+import com.example.actionprice.auctionData.dto.AuctionChartInterval;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 조회용 복합 인덱스 전후의 조회 속도 비교
+ * @author 연상훈
+ * @created 2026-10-18 오후 8:10
+ * @info 채소류 테이블과 같은 구조의 임시 테이블에 1년치 가짜 데이터를 넣고, 페이지 조회(날짜 역순 10개 + count)와 그래프 조회(구간별 집계)를 인덱스 없이, 인덱스를 만든 후에 각각 측정함
+ * @info 쿼리마다 EXPLAIN을 인덱스 전후로 남겨서, 그래프 조회가 인덱스만으로 끝나는지(Extra : Using index) 확인할 수 있음
+ * @updated 2026-10-19 오전 8:20 : 설정된 DB 대신 auctionData.benchmark.url로 지정한 별도 스키마에서만 실행함. 평소에는 실행되지 않음
+ * @info 실행 : gradle test --tests '*AuctionLookupIndexBenchmarkTests' -DauctionData.benchmark.url=jdbc:mysql://localhost:3306/auction_benchmark -DauctionData.benchmark.username=... -DauctionData.benchmark.password=...
+ * @info 백만 건 넘게 넣었다가 지우기 때문에, 운영 데이터가 없는 스키마를 지정해야 함
+ */
+@Log4j2
+@EnabledIfSystemProperty(named = "auctionData.benchmark.url", matches = ".+")
+public class AuctionLookupIndexBenchmarkTests {
+
+    private static final String BENCHMARK_TABLE = "auction_lookup_benchmark";
+    private static final String INDEX_NAME = "idx_auction_lookup_benchmark";
+    // AuctionEntity_vegetable의 조회용 인덱스와 같은 컬럼
+    private static final String INDEX_COLUMNS = "middle, product_name, product_rank, del_date, market_name, price";
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 365;
+    private static final int MARKETS = 24;
+    private static final int PRODUCTS = 60;
+    private static final String[] RANKS = {"상품", "중품"};
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    // 페이지 조회는 JPA finder와 같은 조건. 그래프 조회는 대분류 테이블에서 large 조건을 빼고 집계함(findChartBuckets)
+    private static final String PAGE_WHERE_CLAUSE =
+        " WHERE large = ? AND middle = ? AND product_name = ? AND product_rank = ? AND del_date BETWEEN ? AND ?";
+    private static final String CHART_WHERE_CLAUSE =
+        " WHERE middle = ? AND product_name = ? AND product_rank = ? AND del_date BETWEEN ? AND ?";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            System.getProperty("auctionData.benchmark.url"),
+            System.getProperty("auctionData.benchmark.username", "root"),
+            System.getProperty("auctionData.benchmark.password", "")
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void lookupIndexBenchmark() {
+        createBenchmarkTable();
+
+        try {
+            insertYearOfData();
+            jdbcTemplate.execute("ANALYZE TABLE " + BENCHMARK_TABLE);
+            Map<String, Double> before = measure("before");
+
+            jdbcTemplate.execute(String.format("CREATE INDEX %s ON %s (%s)", INDEX_NAME, BENCHMARK_TABLE, INDEX_COLUMNS));
+            jdbcTemplate.execute("ANALYZE TABLE " + BENCHMARK_TABLE);
+            Map<String, Double> after = measure("after");
+
+            before.forEach((query, millis) ->
+                log.info("{} : {} ms > {} ms", query, String.format("%.2f", millis), String.format("%.2f", after.get(query)))
+            );
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + BENCHMARK_TABLE);
+        }
+    }
+
+    // 채소류 테이블과 같은 구조(자연키 포함). 조회용 인덱스는 없는 상태로 시작
+    private void createBenchmarkTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + BENCHMARK_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + BENCHMARK_TABLE + " ("
+            + " del_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,"
+            + " del_date DATE,"
+            + " large VARCHAR(20),"
+            + " middle VARCHAR(50),"
+            + " product_name VARCHAR(100),"
+            + " product_rank VARCHAR(20) NOT NULL DEFAULT '',"
+            + " price INT NOT NULL,"
+            + " market_name VARCHAR(20),"
+            + " del_unit VARCHAR(20),"
+            + " UNIQUE KEY uk_auction_lookup_benchmark (del_date, market_name, large, middle, product_name, product_rank)"
+            + ")");
+    }
+
+    private void insertYearOfData() {
+        String placeholders = "(?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>();
+        int insertedCount = 0;
+
+        for (int day = 0; day < DAYS; day++) {
+            Date delDate = Date.valueOf(START_DATE.plusDays(day));
+            for (int market = 0; market < MARKETS; market++) {
+                for (int product = 0; product < PRODUCTS; product++) {
+                    for (String rank : RANKS) {
+                        rows.add(new Object[]{
+                            delDate, "채소류", "품목" + (product / 3), "품종" + product, rank,
+                            1000 + (day * 7 + market * 13 + product) % 5000, "시장" + market, "kg"
+                        });
+
+                        if (rows.size() == 1000) {
+                            insertedCount += insertRows(placeholders, rows);
+                            rows.clear();
+                        }
+                    }
+                }
+            }
+        }
+        insertedCount += insertRows(placeholders, rows);
+
+        log.info("inserted : {}", insertedCount);
+    }
+
+    private int insertRows(String placeholders, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        String sql = String.format(
+            "INSERT INTO %s (del_date, large, middle, product_name, product_rank, price, market_name, del_unit) VALUES %s",
+            BENCHMARK_TABLE,
+            String.join(", ", Collections.nCopies(rows.size(), placeholders))
+        );
+
+        return jdbcTemplate.update(sql, rows.stream().flatMap(Arrays::stream).toArray());
+    }
+
+    // 평균 응답 시간(ms). key : 쿼리 이름
+    private Map<String, Double> measure(String phase) {
+        Date startDate = Date.valueOf(START_DATE);
+        Date endDate = Date.valueOf(START_DATE.plusDays(DAYS - 1));
+        Object[] pageParams = {"채소류", "품목10", "품종30", "상품", startDate, endDate};
+        Object[] chartParams = {"품목10", "품종30", "상품", startDate, endDate};
+
+        String pageQuery = "SELECT * FROM " + BENCHMARK_TABLE + PAGE_WHERE_CLAUSE + " ORDER BY del_date DESC LIMIT 10";
+        String countQuery = "SELECT COUNT(*) FROM " + BENCHMARK_TABLE + PAGE_WHERE_CLAUSE;
+        String bucketExpression = AuctionChartInterval.of(DAYS - 1).toSqlBucketExpression("del_date");
+        String chartQuery = "SELECT " + bucketExpression + " AS bucket_date, market_name,"
+            + " SUM(price) AS price_sum, COUNT(*) AS price_count"
+            + " FROM " + BENCHMARK_TABLE + CHART_WHERE_CLAUSE
+            + " GROUP BY " + bucketExpression + ", market_name";
+
+        explain(phase, "page", pageQuery, pageParams);
+        explain(phase, "count", countQuery, pageParams);
+        explain(phase, "chart", chartQuery, chartParams);
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        result.put("page", averageMillis(() -> jdbcTemplate.queryForList(pageQuery, pageParams)));
+        result.put("count", averageMillis(() -> jdbcTemplate.queryForObject(countQuery, Long.class, pageParams)));
+        result.put("chart", averageMillis(() -> jdbcTemplate.queryForList(chartQuery, chartParams)));
+        return result;
+    }
+
+    private void explain(String phase, String query, String sql, Object[] params) {
+        jdbcTemplate.queryForList("EXPLAIN " + sql, params)
+            .forEach(plan -> log.info("[{}] {} plan : {}", phase, query, plan));
+    }
+
+    private double averageMillis(Runnable query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.actionprice.auctionData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.actionprice.auctionData.dto.AuctionPageCursor;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 거래내역 커서의 인코딩, 해석 확인
+ * @author 연상훈
+ * @created 2026-10-19 오전 8:30
+ * @info 잘못된 커서는 IllegalArgumentException이어야 CustomRestAdvice에서 400으로 응답함
+ */
+public class AuctionPageCursorTests {
+
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    @Test
+    void roundTrip() {
+        AuctionPageCursor cursor = new AuctionPageCursor(LocalDate.of(2024, 3, 5), 123456789L);
+
+        String encoded = cursor.encode();
+        AuctionPageCursor decoded = AuctionPageCursor.decode(encoded, END_DATE);
+
+        // url에 그대로 넣을 수 있어야 함
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor.getDelDate(), decoded.getDelDate());
+        assertEquals(cursor.getDelId(), decoded.getDelId());
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        AuctionPageCursor first = AuctionPageCursor.first(END_DATE);
+
+        for (String cursor : new String[]{null, "", "  "}) {
+            AuctionPageCursor decoded = AuctionPageCursor.decode(cursor, END_DATE);
+            assertEquals(first.getDelDate(), decoded.getDelDate());
+            assertEquals(first.getDelId(), decoded.getDelId());
+        }
+    }
+
+    @Test
+    void firstPageIncludesLastRowOfPeriod() {
+        AuctionPageCursor first = AuctionPageCursor.first(END_DATE);
+
+        // 조회 기간의 마지막 날, 가장 큰 id인 행도 첫 페이지에 나와야 함
+        assertTrue(isAfterCursor(first, END_DATE, Long.MAX_VALUE));
+        assertTrue(isAfterCursor(first, END_DATE.minusDays(1), 1L));
+    }
+
+    @Test
+    void notBase64() {
+        assertThrows(IllegalArgumentException.class, () -> AuctionPageCursor.decode("not base64!", END_DATE));
+    }
+
+    @Test
+    void noSeparator() {
+        assertThrows(IllegalArgumentException.class, () -> AuctionPageCursor.decode(encode("2024-03-05"), END_DATE));
+    }
+
+    @Test
+    void badDate() {
+        assertThrows(IllegalArgumentException.class, () -> AuctionPageCursor.decode(encode("2024-13-05|10"), END_DATE));
+    }
+
+    @Test
+    void nonNumericId() {
+        assertThrows(IllegalArgumentException.class, () -> AuctionPageCursor.decode(encode("2024-03-05|abc"), END_DATE));
+    }
+
+    // AuctionBaseRepository.findSliceAfterCursor의 커서 조건
+    private static boolean isAfterCursor(AuctionPageCursor cursor, LocalDate delDate, long delId) {
+        return delDate.isBefore(cursor.getDelDate())
+            || (delDate.equals(cursor.getDelDate()) && delId < cursor.getDelId());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
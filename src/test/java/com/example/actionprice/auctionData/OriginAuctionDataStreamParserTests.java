@@ -0,0 +1,141 @@
+package com.example.actionprice.auctionData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.actionprice.auctionData.originAuctionData.OriginAuctionDataStreamParser;
+import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * OriginAuctionDataStreamParser에 응답을 여러 조각으로 나눠서 넣었을 때도 같은 행이 나오는지 확인
+ * @author 연상훈
+ * @created 2026-10-19 오전 8:00
+ * @info 한글은 UTF-8로 3바이트라서, 조각의 경계가 글자 가운데에 걸리는 경우도 확인함
+ */
+public class OriginAuctionDataStreamParserTests {
+
+    // 스프링 부트가 만드는 ObjectMapper와 같은 설정. 모르는 필드는 무시함
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private static final String RESPONSE = "{\"condition\":[{\"p_regday\":\"2024-10-20\"}],"
+        + "\"data\":{\"error_code\":\"000\",\"item\":["
+        + "{\"item_name\":\"배추\",\"item_code\":\"211\",\"kind_name\":\"봄(10kg)\",\"rank\":\"상품\",\"unit\":\"10kg\",\"dpr1\":\"12,000\"},"
+        + "{\"item_name\":\"무\",\"item_code\":\"231\",\"kind_name\":\"월동(20kg)\",\"rank\":\"중품\",\"unit\":\"20kg\",\"dpr1\":\"-\","
+        + "\"extra\":{\"item\":[{\"item_name\":\"무시됨\"}]}}"
+        + "]}}";
+
+    @Test
+    void wholeBody() {
+        List<OriginAuctionDataRow> rows = parse(List.of(bytes(RESPONSE)));
+
+        assertEquals(2, rows.size());
+        assertEquals("배추", rows.get(0).getItem_name());
+        assertEquals("봄(10kg)", rows.get(0).getKind_name());
+        assertEquals("12,000", rows.get(0).getDpr1());
+        assertEquals("무", rows.get(1).getItem_name());
+        assertEquals("중품", rows.get(1).getRank());
+    }
+
+    @Test
+    void everySplitPoint() {
+        // 한 곳에서 자르는 모든 경우. 한글 가운데, 문자열 가운데, 토큰 사이가 모두 포함됨
+        byte[] body = bytes(RESPONSE);
+        List<OriginAuctionDataRow> expected = parse(List.of(body));
+
+        for (int i = 1; i < body.length; i++) {
+            List<OriginAuctionDataRow> rows = parse(List.of(
+                Arrays.copyOfRange(body, 0, i),
+                Arrays.copyOfRange(body, i, body.length)
+            ));
+            assertEquals(expected, rows, "split at " + i);
+        }
+    }
+
+    @Test
+    void oneByteAtATime() {
+        byte[] body = bytes(RESPONSE);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < body.length; i++) {
+            chunks.add(new byte[]{body[i]});
+        }
+
+        assertEquals(parse(List.of(body)), parse(chunks));
+    }
+
+    @Test
+    void splitInsideKoreanCharacter() {
+        byte[] body = bytes(RESPONSE);
+        int start = indexOf(body, bytes("배추"));
+        assertTrue(start > 0);
+
+        // "배"의 첫 바이트 뒤, 두 번째 바이트 뒤에서 자름
+        List<OriginAuctionDataRow> rows = parse(List.of(
+            Arrays.copyOfRange(body, 0, start + 1),
+            Arrays.copyOfRange(body, start + 1, start + 2),
+            Arrays.copyOfRange(body, start + 2, body.length)
+        ));
+
+        assertEquals("배추", rows.get(0).getItem_name());
+    }
+
+    @Test
+    void emptyItemArray() {
+        assertEquals(List.of(), parse(List.of(bytes("{\"condition\":[],\"data\":{\"error_code\":\"000\",\"item\":[]}}"))));
+    }
+
+    @Test
+    void errorCodeResponse() {
+        // 데이터가 없는 날, 인증 실패 같은 에러 응답에는 item이 없음
+        assertEquals(List.of(), parse(List.of(bytes("{\"condition\":[],\"data\":[\"001\"]}"))));
+        assertEquals(List.of(), parse(List.of(bytes("{\"condition\":[],\"data\":{\"error_code\":\"900\"}}"))));
+    }
+
+    @Test
+    void truncatedBody() {
+        byte[] body = bytes(RESPONSE);
+        byte[] truncated = Arrays.copyOfRange(body, 0, indexOf(body, bytes("\"무\"")));
+
+        OriginAuctionDataStreamParser parser = new OriginAuctionDataStreamParser(OBJECT_MAPPER);
+        // 잘리기 전에 완성된 행은 먼저 나오고, 입력이 끝나면 에러가 남
+        List<OriginAuctionDataRow> rows = parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(truncated));
+        assertEquals(1, rows.size());
+        assertThrows(UncheckedIOException.class, parser::endOfInput);
+        parser.close();
+    }
+
+    private static List<OriginAuctionDataRow> parse(List<byte[]> chunks) {
+        OriginAuctionDataStreamParser parser = new OriginAuctionDataStreamParser(OBJECT_MAPPER);
+        List<OriginAuctionDataRow> rows = new ArrayList<>();
+
+        for (byte[] chunk : chunks) {
+            rows.addAll(parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk)));
+        }
+        rows.addAll(parser.endOfInput());
+        parser.close();
+
+        return rows;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        for (int i = 0; i <= source.length - target.length; i++) {
+            if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
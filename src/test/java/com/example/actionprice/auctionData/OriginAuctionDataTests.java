@@ -1,6 +1,8 @@
 package com.example.actionprice.auctionData;
 
 import com.example.actionprice.auctionData.detailCategory.AllSortingComponent;
+import com.example.actionprice.auctionData.ingest.AuctionIngestResultDTO;
+import com.example.actionprice.auctionData.ingest.AuctionIngestService;
 import com.example.actionprice.auctionData.service.AuctionEntityService;
 import com.example.actionprice.auctionData.originAuctionData.OriginAuctionDataFetcher;
 import com.example.actionprice.auctionData.originAuctionData.originApiRequestObj.OriginAuctionDataRow;
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import reactor.core.publisher.Flux;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 @SpringBootTest
@@ -25,6 +29,9 @@ public class OriginAuctionDataTests {
     @Autowired
     private AuctionEntityService auctionEntityService;
 
+    @Autowired
+    private AuctionIngestService auctionIngestService;
+
     @Test
     @Disabled
     void auctionDataPrintTest() throws Exception {
@@ -82,5 +89,37 @@ public class OriginAuctionDataTests {
         }
     }
 
+    /**
+     * auctionDataFluxTest와 같은 기간을 AuctionIngestService로 병렬 수집
+     * @author 연상훈
+     * @created 2026-10-18 오전 11:10
+     */
+    @Test
+    @Disabled
+    void auctionDataIngestTest() {
+        List<AuctionIngestResultDTO> results = auctionIngestService.ingestDateRange(
+            LocalDate.of(2024, 11, 10),
+            LocalDate.of(2024, 11, 14)
+        );
+
+        results.forEach(result -> log.info("result : {}", result));
+    }
 
+    /**
+     * 체크포인트 기반 백필 테스트
+     * @author 연상훈
+     * @created 2026-10-18 오후 5:35
+     * @info 두 번 실행하면 두 번째에는 이미 끝난 unit을 전부 건너뛰어야 함
+     */
+    @Test
+    @Disabled
+    void auctionDataBackfillTest() {
+        LocalDate startDate = LocalDate.of(2024, 11, 1);
+        LocalDate endDate = LocalDate.of(2024, 11, 3);
+
+        auctionIngestService.backfill(startDate, endDate)
+            .forEach(result -> log.info("result : {}", result));
+
+        log.info("status : {}", auctionIngestService.getBackfillStatus(startDate, endDate));
+    }
 }